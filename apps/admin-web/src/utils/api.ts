@@ -28,6 +28,8 @@ export type PageResponse<T> = {
   size: number;
   totalElements: number;
   totalPages: number;
+  // false면 totalElements/totalPages는 추정치 또는 잠시 캐시된 값이다.
+  totalExact?: boolean;
 };
 
 export type UserSummary = {
@@ -0,0 +1,11 @@
+package com.msa.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, String etag, long expiresAtMillis) {
+
+    long weight(String key) {
+        return body.length + key.length() * 2L + 256;
+    }
+}
@@ -0,0 +1,217 @@
+package com.msa.gateway.cache;
+
+import com.msa.gateway.config.GatewayFilterOrders;
+import com.msa.gateway.security.JwtAuthenticationFilter;
+import com.msa.gateway.security.JwtUserClaims;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    public static final String CACHE_STATUS_HEADER = "X-Gateway-Cache";
+
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_LANGUAGE,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.LAST_MODIFIED);
+
+    private final ResponseCacheProperties properties;
+    private final ResponseCacheStore store;
+    private final List<PathPattern> patterns;
+
+    public ResponseCacheFilter(ResponseCacheProperties properties, ResponseCacheStore store) {
+        this.properties = properties;
+        this.store = store;
+        PathPatternParser parser = new PathPatternParser();
+        this.patterns = properties.getPaths().stream().map(parser::parse).toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled() || !HttpMethod.GET.equals(request.getMethod()) || !isCacheablePath(request)) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(exchange);
+        if (!isNoCacheRequest(request)) {
+            CachedResponse cached = store.get(key);
+            if (cached != null) {
+                return writeCached(exchange, cached);
+            }
+        }
+
+        CachingResponse response = new CachingResponse(exchange.getResponse(), key);
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    private boolean isCacheablePath(ServerHttpRequest request) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String cacheKey(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        JwtUserClaims claims = exchange.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE);
+        String role = claims != null ? claims.role().toUpperCase() : "-";
+        String query = request.getURI().getRawQuery();
+        return role + ' ' + request.getPath().value() + (query != null ? '?' + query : "");
+    }
+
+    private boolean isNoCacheRequest(ServerHttpRequest request) {
+        List<String> cacheControl = request.getHeaders().get(HttpHeaders.CACHE_CONTROL);
+        return cacheControl != null && cacheControl.stream().anyMatch(value -> value.contains("no-cache"));
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        store.recordBytesSaved(cached.body().length);
+
+        if (matchesETag(exchange.getRequest(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(cached.status());
+        cached.headers().forEach(headers::put);
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    private boolean matchesETag(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || etag.equals(candidate) || etag.equals(strip(candidate))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String strip(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    @Override
+    public int getOrder() {
+        return GatewayFilterOrders.RESPONSE_CACHE;
+    }
+
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+
+        private CachingResponse(ServerHttpResponse delegate, String key) {
+            super(delegate);
+            this.key = key;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                return super.writeWith(body);
+            }
+            getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            BodyCapture capture = new BodyCapture(properties.getMaxEntryBytes());
+            // 본문은 그대로 흘려보내면서 한도 이내일 때만 사본을 모은다.
+            Flux<DataBuffer> tee = Flux.<DataBuffer>from(body)
+                    .doOnNext(capture::append)
+                    .doOnComplete(() -> storeCaptured(capture));
+            return super.writeWith(tee);
+        }
+
+        private boolean isCacheable() {
+            HttpHeaders headers = getHeaders();
+            if (!HttpStatus.OK.equals(getStatusCode())
+                    || headers.containsKey(HttpHeaders.SET_COOKIE)
+                    || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+                return false;
+            }
+            long contentLength = headers.getContentLength();
+            if (contentLength > properties.getMaxEntryBytes()) {
+                return false;
+            }
+            String cacheControl = headers.getCacheControl();
+            return cacheControl == null
+                    || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+        }
+
+        private void storeCaptured(BodyCapture capture) {
+            byte[] body = capture.bytes();
+            if (body == null) {
+                return;
+            }
+            HttpHeaders stored = new HttpHeaders();
+            for (String name : STORED_HEADERS) {
+                List<String> values = getHeaders().get(name);
+                if (values != null) {
+                    stored.put(name, values);
+                }
+            }
+            String etag = getHeaders().getETag();
+            if (etag == null) {
+                etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            }
+            store.put(key, new CachedResponse(getStatusCode(), HttpHeaders.readOnlyHttpHeaders(stored), body, etag,
+                    store.expiresAt()));
+        }
+    }
+
+    private static final class BodyCapture {
+
+        private final int limit;
+        private ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        private BodyCapture(int limit) {
+            this.limit = limit;
+        }
+
+        private void append(DataBuffer buffer) {
+            if (out == null) {
+                return;
+            }
+            int length = buffer.readableByteCount();
+            if (out.size() + length > limit) {
+                out = null;
+                return;
+            }
+            byte[] bytes = new byte[length];
+            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(bytes), 0, length);
+            out.writeBytes(bytes);
+        }
+
+        private byte[] bytes() {
+            return out != null ? out.toByteArray() : null;
+        }
+    }
+}
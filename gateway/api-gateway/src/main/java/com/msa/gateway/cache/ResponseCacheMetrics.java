@@ -0,0 +1,37 @@
+package com.msa.gateway.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ResponseCacheMetrics implements MeterBinder {
+
+    private final ResponseCacheStore store;
+
+    public ResponseCacheMetrics(ResponseCacheStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gateway.response.cache.requests", store, ResponseCacheStore::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("gateway.response.cache.requests", store, ResponseCacheStore::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("gateway.response.cache.bytes.saved", store, ResponseCacheStore::getBytesSaved)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("gateway.response.cache.hit.ratio", store, ResponseCacheStore::getHitRatio)
+                .register(registry);
+        Gauge.builder("gateway.response.cache.size", store, ResponseCacheStore::getSizeBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("gateway.response.cache.entries", store, ResponseCacheStore::getEntryCount)
+                .register(registry);
+    }
+}
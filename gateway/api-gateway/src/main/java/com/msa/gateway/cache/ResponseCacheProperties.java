@@ -0,0 +1,71 @@
+package com.msa.gateway.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 캐시 대상 GET 경로 패턴
+     */
+    private List<String> paths = new ArrayList<>(List.of("/api/v1/boards/**"));
+
+    private Duration ttl = Duration.ofSeconds(5);
+
+    /**
+     * 전체 캐시가 보관할 수 있는 최대 바이트 수
+     */
+    private long maxBytes = 32L * 1024 * 1024;
+
+    /**
+     * 이 크기를 넘는 응답은 캐시하지 않고 그대로 흘려보낸다.
+     */
+    private int maxEntryBytes = 256 * 1024;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public int getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public void setMaxEntryBytes(int maxEntryBytes) {
+        this.maxEntryBytes = maxEntryBytes;
+    }
+}
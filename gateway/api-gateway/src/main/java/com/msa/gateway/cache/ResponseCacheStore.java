@@ -0,0 +1,104 @@
+package com.msa.gateway.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ResponseCacheStore {
+
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final ResponseCacheProperties properties;
+    private final LongSupplier clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    private long totalBytes;
+
+    @Autowired
+    public ResponseCacheStore(ResponseCacheProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    ResponseCacheStore(ResponseCacheProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    CachedResponse get(String key) {
+        CachedResponse response;
+        synchronized (this) {
+            response = entries.get(key);
+            if (response != null && response.expiresAtMillis() <= clock.getAsLong()) {
+                entries.remove(key);
+                totalBytes -= response.weight(key);
+                response = null;
+            }
+        }
+        if (response == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return response;
+    }
+
+    void put(String key, CachedResponse response) {
+        long weight = response.weight(key);
+        if (weight > properties.getMaxBytes()) {
+            return;
+        }
+        synchronized (this) {
+            CachedResponse previous = entries.put(key, response);
+            if (previous != null) {
+                totalBytes -= previous.weight(key);
+            }
+            totalBytes += weight;
+            // 접근 순서 LinkedHashMap이므로 가장 오래 쓰이지 않은 항목부터 바이트 한도 안으로 줄인다.
+            Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+            while (totalBytes > properties.getMaxBytes() && eldest.hasNext()) {
+                Map.Entry<String, CachedResponse> entry = eldest.next();
+                totalBytes -= entry.getValue().weight(entry.getKey());
+                eldest.remove();
+            }
+        }
+    }
+
+    long expiresAt() {
+        return clock.getAsLong() + properties.getTtl().toMillis();
+    }
+
+    void recordBytesSaved(long bytes) {
+        bytesSaved.add(bytes);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    public synchronized long getSizeBytes() {
+        return totalBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,221 @@
+package com.msa.gateway.coalescing;
+
+import com.msa.gateway.config.GatewayFilterOrders;
+import com.msa.gateway.security.JwtAuthenticationFilter;
+import com.msa.gateway.security.JwtUserClaims;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    private final RequestCoalescingProperties properties;
+    private final List<PathPattern> patterns;
+    private final Map<String, Mono<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder coalescedRequests = new LongAdder();
+    private final LongAdder streamedResponses = new LongAdder();
+
+    public RequestCoalescingFilter(RequestCoalescingProperties properties) {
+        this.properties = properties;
+        PathPatternParser parser = new PathPatternParser();
+        this.patterns = properties.getPaths().stream().map(parser::parse).toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled() || !HttpMethod.GET.equals(request.getMethod()) || !isCoalescedPath(request)) {
+            return chain.filter(exchange);
+        }
+
+        String key = requestKey(exchange);
+        return Mono.defer(() -> {
+            Mono<SharedResponse> call = newCall(key, exchange, chain);
+            Mono<SharedResponse> existing = inFlight.putIfAbsent(key, call);
+            boolean leader = existing == null;
+            if (leader) {
+                upstreamCalls.increment();
+            } else {
+                coalescedRequests.increment();
+                call = existing;
+            }
+            return call.flatMap(shared -> {
+                if (shared.isShareable()) {
+                    return write(exchange.getResponse(), shared);
+                }
+                // 한도를 넘은 본문은 리더에게 이미 스트리밍되었으므로 대기 요청은 각자 업스트림을 호출한다.
+                if (leader) {
+                    return Mono.empty();
+                }
+                upstreamCalls.increment();
+                return chain.filter(exchange);
+            });
+        });
+    }
+
+    public long getUpstreamCallCount() {
+        return upstreamCalls.sum();
+    }
+
+    public long getCoalescedRequestCount() {
+        return coalescedRequests.sum();
+    }
+
+    public long getStreamedResponseCount() {
+        return streamedResponses.sum();
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<SharedResponse> newCall(String key, ServerWebExchange exchange, GatewayFilterChain chain) {
+        AtomicReference<Mono<SharedResponse>> self = new AtomicReference<>();
+        Mono<SharedResponse> call = Mono.defer(() -> {
+                    CapturingResponse capture = new CapturingResponse(exchange.getResponse());
+                    return chain.filter(exchange.mutate().response(capture).build())
+                            .then(Mono.fromSupplier(capture::toSharedResponse));
+                })
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                // 첫 구독(리더)만 업스트림을 호출하고 나머지는 같은 결과를 공유한다.
+                .cache();
+        self.set(call);
+        return call;
+    }
+
+    private boolean isCoalescedPath(ServerHttpRequest request) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String requestKey(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        JwtUserClaims claims = exchange.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE);
+        String routeId = route != null ? route.getId() : "-";
+        String role = claims != null ? claims.role().toUpperCase() : "-";
+        String query = request.getURI().getRawQuery();
+        return routeId + ' ' + role + ' ' + request.getPath().value() + (query != null ? '?' + query : "");
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, SharedResponse shared) {
+        if (response.isCommitted()) {
+            return Mono.empty();
+        }
+        response.setStatusCode(shared.status());
+        HttpHeaders headers = response.getHeaders();
+        shared.headers().forEach(headers::put);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        if (shared.body().length == 0) {
+            return response.setComplete();
+        }
+        headers.setContentLength(shared.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(shared.body())));
+    }
+
+    @Override
+    public int getOrder() {
+        return GatewayFilterOrders.REQUEST_COALESCING;
+    }
+
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private byte[] body = new byte[0];
+        private boolean streamed;
+
+        private CapturingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            // 리더 응답에 직접 쓰지 않고 본문을 모아 두었다가 모든 대기 요청에 같은 방식으로 기록한다.
+            // 한도를 넘는 순간부터는 모은 조각과 나머지를 리더 응답에 그대로 흘려보낸다.
+            int limit = properties.getMaxBodyBytes();
+            AtomicLong size = new AtomicLong();
+            return Flux.<DataBuffer>from(body)
+                    .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > limit)
+                    .switchOnFirst((first, chunks) -> {
+                        if (size.get() <= limit) {
+                            return chunks.doOnNext(this::capture).then();
+                        }
+                        streamed = true;
+                        streamedResponses.increment();
+                        return super.writeWith(chunks.concatMapIterable(buffers -> buffers));
+                    })
+                    .then();
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).concatMap(Flux::from));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return streamed ? super.setComplete() : Mono.empty();
+        }
+
+        private void capture(List<DataBuffer> buffers) {
+            DataBuffer joined = bufferFactory().join(buffers);
+            byte[] bytes = new byte[joined.readableByteCount()];
+            joined.read(bytes);
+            DataBufferUtils.release(joined);
+            this.body = bytes;
+        }
+
+        private SharedResponse toSharedResponse() {
+            HttpStatusCode status = getStatusCode() != null ? getStatusCode() : HttpStatus.OK;
+            if (streamed) {
+                return SharedResponse.streamed(status);
+            }
+            HttpHeaders headers = new HttpHeaders();
+            getHeaders().forEach((name, values) -> {
+                if (isReplayable(name)) {
+                    headers.put(name, values);
+                }
+            });
+            return new SharedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body);
+        }
+
+        private boolean isReplayable(String name) {
+            // CORS 관련 헤더는 요청마다 CorsWebFilter가 설정하므로 리더의 값을 복사하지 않는다.
+            return !name.regionMatches(true, 0, "Access-Control-", 0, 15)
+                    && !HttpHeaders.VARY.equalsIgnoreCase(name)
+                    && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                    && !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.msa.gateway.coalescing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RequestCoalescingMetrics implements MeterBinder {
+
+    private final RequestCoalescingFilter filter;
+
+    public RequestCoalescingMetrics(RequestCoalescingFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gateway.coalescing.requests", filter, RequestCoalescingFilter::getUpstreamCallCount)
+                .tag("result", "upstream")
+                .register(registry);
+        FunctionCounter.builder("gateway.coalescing.requests", filter,
+                        RequestCoalescingFilter::getCoalescedRequestCount)
+                .tag("result", "coalesced")
+                .register(registry);
+        FunctionCounter.builder("gateway.coalescing.requests", filter,
+                        RequestCoalescingFilter::getStreamedResponseCount)
+                .tag("result", "streamed")
+                .register(registry);
+    }
+}
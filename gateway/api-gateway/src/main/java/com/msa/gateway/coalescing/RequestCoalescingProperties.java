@@ -0,0 +1,47 @@
+package com.msa.gateway.coalescing;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.coalescing")
+public class RequestCoalescingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 동시 요청을 하나로 합칠 GET 경로 패턴. 응답 전체를 버퍼링하므로 본문이 큰 게시글 목록은 제외한다.
+     */
+    private List<String> paths = new ArrayList<>(List.of("/api/v1/members/**", "/api/v1/boards", "/api/v1/boards/{boardId}"));
+
+    /**
+     * 대기 중인 요청들에 나눠줄 응답 본문의 최대 크기. 넘으면 리더에게만 그대로 흘려보내고 대기 요청은 각자 업스트림을 호출한다.
+     */
+    private int maxBodyBytes = 4 * 1024 * 1024;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public void setMaxBodyBytes(int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+}
@@ -0,0 +1,18 @@
+package com.msa.gateway.coalescing;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * 대기 요청에 재생할 리더 응답. 본문이 한도를 넘어 리더에게 직접 스트리밍된 경우 body는 null이다.
+ */
+record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    static SharedResponse streamed(HttpStatusCode status) {
+        return new SharedResponse(status, HttpHeaders.EMPTY, null);
+    }
+
+    boolean isShareable() {
+        return body != null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.msa.gateway.config;
+
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+
+public final class GatewayFilterOrders {
+
+    public static final int METRICS = -200;
+    public static final int AUTHENTICATION = -100;
+    public static final int RATE_LIMIT = -90;
+
+    /**
+     * 응답 본문을 가로채는 필터는 NettyWriteResponseFilter보다 먼저 데코레이터를 설치해야 한다.
+     */
+    public static final int RESPONSE_CACHE = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 10;
+    public static final int REQUEST_COALESCING = RESPONSE_CACHE + 1;
+
+    /**
+     * 업스트림 상태 코드를 본문 기록 전에 확인해야 하므로 NettyWriteResponseFilter 뒤, 라우팅 필터 앞에 둔다.
+     */
+    public static final int UPSTREAM_RESILIENCE = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER + 100;
+
+    private GatewayFilterOrders() {
+    }
+}
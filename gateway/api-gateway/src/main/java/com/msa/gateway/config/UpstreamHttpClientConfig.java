@@ -0,0 +1,86 @@
+package com.msa.gateway.config;
+
+import io.netty.channel.ChannelOption;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class UpstreamHttpClientConfig {
+
+    static final String POOL_NAME = "gateway-upstream";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider gatewayConnectionProvider(
+            UpstreamPoolProperties poolProperties, GatewayProperties gatewayProperties) {
+        return buildConnectionProvider(poolProperties, gatewayProperties.getRoutes());
+    }
+
+    /**
+     * Spring Cloud Gateway의 HttpClientFactory를 그대로 쓰되 커넥션 풀만 업스트림별 풀로 바꾼다.
+     * ssl, proxy, wiretap, connect/response timeout 등 spring.cloud.gateway.httpclient.* 설정은 그대로 적용되고,
+     * 풀 설정만 httpclient.pool 대신 gateway.upstream-pools를 따른다.
+     */
+    @Bean
+    public HttpClientFactory upstreamHttpClientFactory(HttpClientProperties properties,
+            ServerProperties serverProperties, List<HttpClientCustomizer> customizers,
+            HttpClientSslConfigurer sslConfigurer, ConnectionProvider gatewayConnectionProvider) {
+        return new HttpClientFactory(properties, serverProperties, sslConfigurer, customizers) {
+            @Override
+            protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+                return gatewayConnectionProvider;
+            }
+        };
+    }
+
+    @Bean
+    public HttpClientCustomizer upstreamKeepAliveCustomizer() {
+        return client -> client.keepAlive(true).option(ChannelOption.SO_KEEPALIVE, true);
+    }
+
+    static ConnectionProvider buildConnectionProvider(
+            UpstreamPoolProperties poolProperties, List<RouteDefinition> routes) {
+        ConnectionProvider.Builder builder = apply(ConnectionProvider.builder(POOL_NAME), poolProperties.getDefaultPool());
+        for (RouteDefinition route : routes) {
+            InetSocketAddress address = remoteAddress(route.getUri());
+            if (address != null) {
+                UpstreamPoolProperties.Pool pool = poolProperties.poolFor(route.getId());
+                builder.forRemoteHost(address, spec -> apply(spec, pool));
+            }
+        }
+        return builder.build();
+    }
+
+    static InetSocketAddress remoteAddress(URI uri) {
+        if (uri == null || uri.getHost() == null) {
+            return null;
+        }
+        int port = uri.getPort();
+        if (port < 0) {
+            port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        }
+        // HttpClient가 풀 키로 사용하는 미해결 주소와 동일한 형태로 맞춘다.
+        return InetSocketAddress.createUnresolved(uri.getHost(), port);
+    }
+
+    private static <S extends ConnectionProvider.ConnectionPoolSpec<S>> S apply(S spec, UpstreamPoolProperties.Pool pool) {
+        return spec.maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictionInterval())
+                .lifo()
+                .metrics(true);
+    }
+}
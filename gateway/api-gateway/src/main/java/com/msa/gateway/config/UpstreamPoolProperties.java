@@ -0,0 +1,109 @@
+package com.msa.gateway.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.upstream-pools")
+public class UpstreamPoolProperties {
+
+    private Pool defaultPool = new Pool();
+
+    /**
+     * 라우트 ID별 풀 설정 (지정하지 않은 라우트는 defaultPool 적용)
+     */
+    private Map<String, Pool> routes = new HashMap<>();
+
+    public Pool getDefaultPool() {
+        return defaultPool;
+    }
+
+    public void setDefaultPool(Pool defaultPool) {
+        this.defaultPool = defaultPool;
+    }
+
+    public Map<String, Pool> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Pool> routes) {
+        this.routes = routes;
+    }
+
+    public Pool poolFor(String routeId) {
+        Pool pool = routes.get(routeId);
+        return pool != null ? pool : defaultPool;
+    }
+
+    public static class Pool {
+
+        private int maxConnections = 200;
+
+        /**
+         * 커넥션을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 실패)
+         */
+        private int pendingAcquireMaxCount = 400;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 업스트림(Tomcat 기본 keep-alive 20초)보다 먼저 유휴 커넥션을 정리한다.
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(15);
+
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        private Duration evictionInterval = Duration.ofSeconds(30);
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+
+        public Duration getEvictionInterval() {
+            return evictionInterval;
+        }
+
+        public void setEvictionInterval(Duration evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+    }
+}
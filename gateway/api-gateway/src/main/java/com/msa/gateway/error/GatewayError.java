@@ -0,0 +1,47 @@
+package com.msa.gateway.error;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpStatus;
+
+public enum GatewayError {
+    MISSING_TOKEN(HttpStatus.UNAUTHORIZED, "Missing or invalid Authorization header"),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "Invalid or expired token"),
+    ADMIN_REQUIRED(HttpStatus.FORBIDDEN, "ADMIN role required"),
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "Too many requests"),
+    CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "Upstream service is temporarily unavailable"),
+    UPSTREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "Upstream service unavailable"),
+    UPSTREAM_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "Upstream service timed out");
+
+    private final HttpStatus status;
+    private final String message;
+    private final ByteBuffer body;
+
+    GatewayError(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+        byte[] bytes = ("{\"code\":\"" + name() + "\",\"message\":\"" + message + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        this.body = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getCode() {
+        return name();
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public int getContentLength() {
+        return body.capacity();
+    }
+
+    ByteBuffer body() {
+        return body.duplicate();
+    }
+}
@@ -0,0 +1,27 @@
+package com.msa.gateway.error;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+public final class GatewayErrorResponses {
+
+    public static final String ERROR_CODE_HEADER = "X-Error-Code";
+
+    private GatewayErrorResponses() {
+    }
+
+    public static Mono<Void> write(ServerWebExchange exchange, GatewayError error) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return response.setComplete();
+        }
+        response.setStatusCode(error.getStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(error.getContentLength());
+        response.getHeaders().set(ERROR_CODE_HEADER, error.getCode());
+        // 공유 읽기 전용 버퍼를 복사 없이 감싸므로 거부 응답마다 본문을 다시 인코딩하지 않는다.
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(error.body())));
+    }
+}
@@ -0,0 +1,30 @@
+package com.msa.gateway.metrics;
+
+import com.msa.gateway.security.JwtTokenValidator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JwtCacheMetrics implements MeterBinder {
+
+    private final JwtTokenValidator tokenValidator;
+
+    public JwtCacheMetrics(JwtTokenValidator tokenValidator) {
+        this.tokenValidator = tokenValidator;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gateway.jwt.cache.requests", tokenValidator, JwtTokenValidator::getCacheHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("gateway.jwt.cache.requests", tokenValidator, JwtTokenValidator::getCacheMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("gateway.jwt.cache.entries", tokenValidator, JwtTokenValidator::getCacheSize)
+                .register(registry);
+    }
+}
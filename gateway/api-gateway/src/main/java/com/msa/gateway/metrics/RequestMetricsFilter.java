@@ -0,0 +1,163 @@
+package com.msa.gateway.metrics;
+
+import com.msa.gateway.config.GatewayFilterOrders;
+import com.msa.gateway.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+@Component
+public class RequestMetricsFilter implements GlobalFilter, Ordered {
+
+    private static final String UNKNOWN_ROUTE = "unknown";
+
+    private final MeterRegistry registry;
+    private final Map<RequestKey, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final Map<String, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : UNKNOWN_ROUTE;
+        String method = exchange.getRequest().getMethod().name();
+        RouteMeters meters = routeMeters(routeId);
+
+        long requestBytes = exchange.getRequest().getHeaders().getContentLength();
+        if (requestBytes > 0) {
+            meters.requestBytes().record(requestBytes);
+        }
+
+        CountingResponse response = new CountingResponse(exchange.getResponse());
+        return chain.filter(exchange.mutate().response(response).build())
+                .doOnError(response::failed)
+                .doFinally(signal -> {
+                    long elapsed = System.nanoTime() - start;
+                    String status = statusClass(signal, response);
+                    requestTimer(routeId, method, status).record(elapsed, TimeUnit.NANOSECONDS);
+                    meters.responseBytes().record(response.bytesWritten);
+                    Long jwtNanos = exchange.getAttribute(JwtAuthenticationFilter.VALIDATION_NANOS_ATTRIBUTE);
+                    if (jwtNanos != null) {
+                        meters.jwtValidation().record(jwtNanos, TimeUnit.NANOSECONDS);
+                    }
+                });
+    }
+
+    private String statusClass(SignalType signal, CountingResponse response) {
+        if (signal == SignalType.CANCEL) {
+            return "CANCELLED";
+        }
+        HttpStatusCode status = response.getStatusCode();
+        if (response.error != null) {
+            status = response.error instanceof ResponseStatusException statusException
+                    ? statusException.getStatusCode()
+                    : HttpStatusCode.valueOf(500);
+        }
+        if (status == null) {
+            return "2xx";
+        }
+        return (status.value() / 100) + "xx";
+    }
+
+    private Timer requestTimer(String routeId, String method, String status) {
+        RequestKey key = new RequestKey(routeId, method, status);
+        Timer timer = requestTimers.get(key);
+        if (timer == null) {
+            timer = requestTimers.computeIfAbsent(key, k -> latencyTimer("gateway.route.requests")
+                    .tag("route", k.routeId())
+                    .tag("method", k.method())
+                    .tag("status", k.status())
+                    .register(registry));
+        }
+        return timer;
+    }
+
+    private RouteMeters routeMeters(String routeId) {
+        RouteMeters meters = routeMeters.get(routeId);
+        if (meters == null) {
+            meters = routeMeters.computeIfAbsent(routeId, id -> new RouteMeters(
+                    latencyTimer("gateway.route.jwt.validation").tag("route", id).register(registry),
+                    bytesSummary("gateway.route.request.bytes").tag("route", id).register(registry),
+                    bytesSummary("gateway.route.response.bytes").tag("route", id).register(registry)));
+        }
+        return meters;
+    }
+
+    private static Timer.Builder latencyTimer(String name) {
+        // Micrometer의 HdrHistogram 기반 기록기는 락 없이 기록하고, 퍼센타일은 조회 시점에 계산한다.
+        return Timer.builder(name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(30));
+    }
+
+    private static DistributionSummary.Builder bytesSummary(String name) {
+        return DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.95, 0.99);
+    }
+
+    @Override
+    public int getOrder() {
+        return GatewayFilterOrders.METRICS;
+    }
+
+    private record RequestKey(String routeId, String method, String status) {
+    }
+
+    private record RouteMeters(Timer jwtValidation, DistributionSummary requestBytes, DistributionSummary responseBytes) {
+    }
+
+    private static final class CountingResponse extends ServerHttpResponseDecorator {
+
+        private volatile long bytesWritten;
+        private volatile Throwable error;
+
+        private CountingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(this::count));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(chunk -> Flux.from(chunk).doOnNext(this::count)));
+        }
+
+        private void count(DataBuffer buffer) {
+            bytesWritten += buffer.readableByteCount();
+        }
+
+        private void failed(Throwable ex) {
+            this.error = ex;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.msa.gateway.ratelimit;
+
+import com.msa.gateway.config.GatewayFilterOrders;
+import com.msa.gateway.error.GatewayError;
+import com.msa.gateway.error.GatewayErrorResponses;
+import com.msa.gateway.security.JwtAuthenticationFilter;
+import com.msa.gateway.security.JwtUserClaims;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+
+    public RateLimitFilter(TokenBucketRateLimiter rateLimiter, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled() || HttpMethod.OPTIONS.equals(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : null;
+        long waitNanos = rateLimiter.tryAcquire(routeId, clientKey(exchange));
+        if (waitNanos == 0) {
+            return chain.filter(exchange);
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return GatewayErrorResponses.write(exchange, GatewayError.RATE_LIMITED);
+    }
+
+    private String clientKey(ServerWebExchange exchange) {
+        JwtUserClaims claims = exchange.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE);
+        if (claims != null) {
+            return "sub:" + claims.email();
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null) {
+            return "ip:unknown";
+        }
+        return remoteAddress.getAddress() != null
+                ? "ip:" + remoteAddress.getAddress().getHostAddress()
+                : "ip:" + remoteAddress.getHostString();
+    }
+
+    @Override
+    public int getOrder() {
+        // JwtAuthenticationFilter 이후에 실행되어 검증된 subject를 식별자로 사용한다.
+        return GatewayFilterOrders.RATE_LIMIT;
+    }
+}
@@ -0,0 +1,100 @@
+package com.msa.gateway.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 마지막 요청 이후 이 시간 동안 사용되지 않은(가득 찬) 버킷은 제거
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Limit defaultLimit = new Limit(100, 50);
+
+    /**
+     * 라우트 ID별 제한 (지정하지 않은 라우트는 defaultLimit 적용)
+     */
+    private Map<String, Limit> routes = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Limit getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    public void setDefaultLimit(Limit defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    public Map<String, Limit> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Limit> routes) {
+        this.routes = routes;
+    }
+
+    public Limit limitFor(String routeId) {
+        Limit limit = routeId != null ? routes.get(routeId) : null;
+        return limit != null ? limit : defaultLimit;
+    }
+
+    public static class Limit {
+
+        /**
+         * 순간적으로 허용하는 최대 요청 수(버킷 크기)
+         */
+        private int capacity;
+
+        /**
+         * 초당 채워지는 토큰 수
+         */
+        private double refillPerSecond;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.msa.gateway.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TokenBucketRateLimiter {
+
+    private static final int STRIPES = 16;
+    private static final int SWEEP_EVERY = 1024;
+
+    private final RateLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final Map<BucketKey, TokenBucket>[] stripes;
+    private final AtomicLong requests = new AtomicLong();
+
+    @Autowired
+    public TokenBucketRateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    TokenBucketRateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * @return 허용되면 0, 거부되면 재시도까지 남은 나노초
+     */
+    public long tryAcquire(String routeId, String clientKey) {
+        long now = nanoClock.getAsLong();
+        BucketKey key = new BucketKey(routeId, clientKey);
+        Map<BucketKey, TokenBucket> stripe = stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+        TokenBucket bucket = stripe.get(key);
+        if (bucket == null) {
+            RateLimitProperties.Limit limit = properties.limitFor(routeId);
+            bucket = stripe.computeIfAbsent(key,
+                    ignored -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        }
+        long wait = bucket.tryConsume(now);
+        long count = requests.incrementAndGet();
+        if (count % SWEEP_EVERY == 0) {
+            sweep(stripes[(int) ((count / SWEEP_EVERY) % STRIPES)], now);
+        }
+        return wait;
+    }
+
+    int bucketCount() {
+        int total = 0;
+        for (Map<BucketKey, TokenBucket> stripe : stripes) {
+            total += stripe.size();
+        }
+        return total;
+    }
+
+    private void sweep(Map<BucketKey, TokenBucket> stripe, long now) {
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        stripe.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+
+    private record BucketKey(String routeId, String clientKey) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.msa.gateway.resilience;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "circuitbreakers")
+public class CircuitBreakerEndpoint {
+
+    private final UpstreamResilienceRegistry registry;
+
+    public CircuitBreakerEndpoint(UpstreamResilienceRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public Map<String, CircuitBreakerDescriptor> circuitBreakers() {
+        Map<String, CircuitBreakerDescriptor> result = new TreeMap<>();
+        registry.getUpstreams().forEach((routeId, upstream) -> {
+            UpstreamCircuitBreaker breaker = upstream.breaker();
+            result.put(routeId, new CircuitBreakerDescriptor(
+                    breaker.getState().name(), breaker.getFailureRate(), breaker.getBufferedCalls()));
+        });
+        return result;
+    }
+
+    public record CircuitBreakerDescriptor(String state, double failureRate, int bufferedCalls) {
+    }
+}
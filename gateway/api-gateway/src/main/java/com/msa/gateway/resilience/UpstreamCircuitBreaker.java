@@ -0,0 +1,127 @@
+package com.msa.gateway.resilience;
+
+import java.util.function.LongSupplier;
+
+public final class UpstreamCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final ResilienceProperties.CircuitBreaker config;
+    private final LongSupplier nanoClock;
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    UpstreamCircuitBreaker(ResilienceProperties.CircuitBreaker config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[Math.max(1, config.getSlidingWindowSize())];
+    }
+
+    /**
+     * @return 호출이 허용되면 0, 회로가 열려 있으면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public synchronized long tryAcquire() {
+        long now = nanoClock.getAsLong();
+        if (state == State.OPEN) {
+            if (now - openUntilNanos < 0) {
+                return openUntilNanos - now;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = config.getHalfOpenCalls();
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) {
+                return config.getOpenDuration().toNanos();
+            }
+            halfOpenPermits--;
+        }
+        return 0;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= config.getHalfOpenCalls()) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open(nanoClock.getAsLong());
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= config.getMinimumCalls()
+                    && windowFailures * 100 >= config.getFailureRateThreshold() * windowCount) {
+                open(nanoClock.getAsLong());
+            }
+        }
+    }
+
+    /**
+     * 업스트림과 무관한 이유로 끝난 호출의 HALF_OPEN 허용 횟수를 되돌린다.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openUntilNanos >= 0) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return windowCount == 0 ? 0.0 : (double) windowFailures * 100 / windowCount;
+    }
+
+    public synchronized int getBufferedCalls() {
+        return windowCount;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openUntilNanos = now + config.getOpenDuration().toNanos();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
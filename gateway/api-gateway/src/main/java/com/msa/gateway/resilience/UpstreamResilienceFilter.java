@@ -0,0 +1,128 @@
+package com.msa.gateway.resilience;
+
+import com.msa.gateway.config.GatewayFilterOrders;
+import com.msa.gateway.error.GatewayError;
+import com.msa.gateway.error.GatewayErrorResponses;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.util.retry.Retry;
+
+@Component
+public class UpstreamResilienceFilter implements GlobalFilter, Ordered {
+
+    private final ResilienceProperties properties;
+    private final UpstreamResilienceRegistry registry;
+
+    public UpstreamResilienceFilter(ResilienceProperties properties, UpstreamResilienceRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        UpstreamResilienceRegistry.Upstream upstream = registry.upstream(route.getId());
+        UpstreamCircuitBreaker breaker = upstream.breaker();
+        long waitNanos = breaker.tryAcquire();
+        if (waitNanos > 0) {
+            upstream.rejected().increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            return GatewayErrorResponses.write(exchange, GatewayError.CIRCUIT_OPEN);
+        }
+
+        long start = System.nanoTime();
+        return withRetry(exchange, chain)
+                .doOnSuccess(ignored -> {
+                    // 이 시점에는 업스트림 상태 코드만 설정되어 있고 본문은 아직 기록되지 않았다.
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    record(upstream, start, status == null || !status.is5xxServerError());
+                })
+                .onErrorResume(ex -> {
+                    if (!isUpstreamFailure(ex)) {
+                        breaker.onIgnored();
+                        return Mono.error(ex);
+                    }
+                    record(upstream, start, false);
+                    GatewayError error = hasCause(ex, TimeoutException.class)
+                            ? GatewayError.UPSTREAM_TIMEOUT
+                            : GatewayError.UPSTREAM_UNAVAILABLE;
+                    return GatewayErrorResponses.write(exchange, error);
+                })
+                .doOnCancel(breaker::onIgnored);
+    }
+
+    private Mono<Void> withRetry(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ResilienceProperties.Retry config = properties.getRetry();
+        HttpMethod method = exchange.getRequest().getMethod();
+        boolean idempotent = HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+        if (!idempotent || config.getMaxRetries() <= 0) {
+            return chain.filter(exchange);
+        }
+        return Mono.defer(() -> {
+                    // 이전 시도의 라우팅 표시를 지워야 NettyRoutingFilter가 다시 요청을 보낸다.
+                    ServerWebExchangeUtils.reset(exchange);
+                    return chain.filter(exchange);
+                })
+                .retryWhen(Retry.backoff(config.getMaxRetries(), config.getFirstBackoff())
+                        .maxBackoff(config.getMaxBackoff())
+                        .jitter(config.getJitter())
+                        .filter(UpstreamResilienceFilter::isRetryable)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private void record(UpstreamResilienceRegistry.Upstream upstream, long start, boolean success) {
+        long elapsed = System.nanoTime() - start;
+        if (success) {
+            upstream.breaker().onSuccess();
+            upstream.successLatency().record(elapsed, TimeUnit.NANOSECONDS);
+        } else {
+            upstream.breaker().onFailure();
+            upstream.failureLatency().record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static boolean isRetryable(Throwable ex) {
+        // 타임아웃은 느린 업스트림에 부하를 더할 수 있으므로 연결 단계 실패만 재시도한다.
+        return hasCause(ex, ConnectException.class) || hasCause(ex, PrematureCloseException.class);
+    }
+
+    static boolean isUpstreamFailure(Throwable ex) {
+        return hasCause(ex, IOException.class) || hasCause(ex, TimeoutException.class);
+    }
+
+    private static boolean hasCause(Throwable ex, Class<? extends Throwable> type) {
+        for (Throwable current = ex; current != null; current = current.getCause()) {
+            if (type.isInstance(current)) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getOrder() {
+        return GatewayFilterOrders.UPSTREAM_RESILIENCE;
+    }
+}
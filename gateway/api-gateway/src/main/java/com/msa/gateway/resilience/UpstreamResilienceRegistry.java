@@ -0,0 +1,72 @@
+package com.msa.gateway.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UpstreamResilienceRegistry {
+
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Map<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UpstreamResilienceRegistry(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    UpstreamResilienceRegistry(ResilienceProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+    }
+
+    public Upstream upstream(String routeId) {
+        Upstream upstream = upstreams.get(routeId);
+        return upstream != null ? upstream : upstreams.computeIfAbsent(routeId, this::create);
+    }
+
+    public Map<String, Upstream> getUpstreams() {
+        return Collections.unmodifiableMap(upstreams);
+    }
+
+    private Upstream create(String routeId) {
+        UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(properties.getCircuitBreaker(), nanoClock);
+        Gauge.builder("gateway.circuitbreaker.state", breaker, b -> b.getState().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.circuitbreaker.failure.rate", breaker, UpstreamCircuitBreaker::getFailureRate)
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return new Upstream(breaker,
+                latencyTimer(routeId, "success"),
+                latencyTimer(routeId, "failure"),
+                meterRegistry.counter("gateway.circuitbreaker.rejected", "route", routeId));
+    }
+
+    private Timer latencyTimer(String routeId, String outcome) {
+        return Timer.builder("gateway.upstream.latency")
+                .tag("route", routeId)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public record Upstream(
+            UpstreamCircuitBreaker breaker,
+            Timer successLatency,
+            Timer failureLatency,
+            Counter rejected) {
+    }
+}
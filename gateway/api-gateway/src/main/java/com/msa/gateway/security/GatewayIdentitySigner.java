@@ -0,0 +1,104 @@
+package com.msa.gateway.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GatewayIdentitySigner {
+
+    public static final String EMAIL_HEADER = "X-Auth-Email";
+    public static final String ROLE_HEADER = "X-Auth-Role";
+    public static final String SIGNATURE_HEADER = "X-Auth-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 16;
+
+    private final SecretKeySpec key;
+    private final Mac prototype;
+    private final Clock clock;
+
+    @Autowired
+    public GatewayIdentitySigner(GatewaySecurityProperties securityProperties, JwtProperties jwtProperties) {
+        this(securityProperties.getIdentity().isEnabled()
+                        ? requireSecret(securityProperties.getIdentity().getSecret(), jwtProperties.getSecret())
+                        : null,
+                Clock.systemUTC());
+    }
+
+    public GatewayIdentitySigner(String secret, Clock clock) {
+        this.key = secret != null ? secretKey(secret) : null;
+        this.prototype = key != null ? createMac(key) : null;
+        this.clock = clock;
+    }
+
+    public static GatewayIdentitySigner disabled() {
+        return new GatewayIdentitySigner(null, Clock.systemUTC());
+    }
+
+    public boolean isEnabled() {
+        return prototype != null;
+    }
+
+    /**
+     * 다운스트림이 JWT를 다시 파싱하지 않도록 email, role, 메서드, 경로, 발급 시각(초)에 대한 MAC을 만든다.
+     * 메서드와 경로를 함께 서명해 가로챈 헤더를 허용 오차 안에서 다른 요청에 다시 쓰지 못하게 한다.
+     * 형식: {@code <epochSeconds>.<base64url(HMAC-SHA256 앞 16바이트)>}
+     */
+    public String sign(String email, String role, String method, String path) {
+        if (prototype == null) {
+            return null;
+        }
+        long timestamp = clock.millis() / 1000;
+        Mac mac = newMac();
+        byte[] digest = mac.doFinal(String.join("\n", email, role, method, path, Long.toString(timestamp))
+                .getBytes(StandardCharsets.UTF_8));
+        return timestamp + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(digest, SIGNATURE_BYTES));
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            return createMac(key);
+        }
+    }
+
+    private static SecretKeySpec secretKey(String secret) {
+        if (secret.length() < 32) {
+            throw new IllegalArgumentException("Gateway identity secret must be at least 32 characters.");
+        }
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    private static Mac createMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * 신원 서명 키가 JWT 키와 같으면 한쪽이 새어도 둘 다 위조할 수 있으므로 전용 키가 없으면 기동을 막는다.
+     */
+    private static String requireSecret(String identitySecret, String jwtSecret) {
+        if (identitySecret == null || identitySecret.isBlank()) {
+            throw new IllegalStateException(
+                    "gateway.security.identity.secret must be set when gateway identity signing is enabled.");
+        }
+        if (identitySecret.equals(jwtSecret)) {
+            throw new IllegalStateException("gateway.security.identity.secret must differ from jwt.secret.");
+        }
+        return identitySecret;
+    }
+}
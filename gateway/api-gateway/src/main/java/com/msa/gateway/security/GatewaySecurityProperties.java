@@ -17,6 +17,7 @@ public class GatewaySecurityProperties {
     private List<String> adminPaths = Arrays.asList(
             "/api/v1/members/**",
             "/api/v1/admin/**");
+    private final Identity identity = new Identity();
 
     public List<String> getOpenPaths() {
         return openPaths;
@@ -33,4 +34,37 @@ public class GatewaySecurityProperties {
     public void setAdminPaths(List<String> adminPaths) {
         this.adminPaths = adminPaths;
     }
+
+    public Identity getIdentity() {
+        return identity;
+    }
+
+    public static class Identity {
+
+        /**
+         * 다운스트림으로 서명된 신원 헤더(X-Auth-Signature)를 전달할지 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 신원 헤더 서명 키. 서명을 켜면 필수이며 jwt.secret과 달라야 한다
+         */
+        private String secret;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
 }
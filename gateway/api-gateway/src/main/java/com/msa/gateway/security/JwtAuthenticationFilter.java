@@ -1,103 +1,111 @@
 package com.msa.gateway.security;
 
-import java.nio.charset.StandardCharsets;
-import java.util.List;
+import com.msa.gateway.config.GatewayFilterOrders;
+import com.msa.gateway.error.GatewayError;
+import com.msa.gateway.error.GatewayErrorResponses;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
-import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 @Component
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".claims";
+    public static final String VALIDATION_NANOS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".validationNanos";
+
     private final JwtTokenValidator tokenValidator;
-    private final GatewaySecurityProperties securityProperties;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final PathAccessRules pathAccessRules;
+    private final GatewayIdentitySigner identitySigner;
 
+    @Autowired
     public JwtAuthenticationFilter(
-            JwtTokenValidator tokenValidator, GatewaySecurityProperties securityProperties) {
+            JwtTokenValidator tokenValidator, PathAccessRules pathAccessRules, GatewayIdentitySigner identitySigner) {
         this.tokenValidator = tokenValidator;
-        this.securityProperties = securityProperties;
+        this.pathAccessRules = pathAccessRules;
+        this.identitySigner = identitySigner;
+    }
+
+    public JwtAuthenticationFilter(
+            JwtTokenValidator tokenValidator, GatewaySecurityProperties securityProperties) {
+        this(tokenValidator, new PathAccessRules(securityProperties), GatewayIdentitySigner.disabled());
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
-        String path = request.getURI().getPath();
+        if (HttpMethod.OPTIONS.equals(request.getMethod())) {
+            return chain.filter(stripIdentityHeaders(exchange));
+        }
 
-        if (HttpMethod.OPTIONS.equals(request.getMethod()) || isOpenPath(path)) {
-            return chain.filter(exchange);
+        PathAccess access = pathAccessRules.resolve(request.getURI().getPath());
+        if (access == PathAccess.OPEN) {
+            return chain.filter(stripIdentityHeaders(exchange));
         }
 
         String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
         if (authorization == null || !authorization.startsWith("Bearer ")) {
-            return unauthorized(exchange, "Missing or invalid Authorization header");
+            return GatewayErrorResponses.write(exchange, GatewayError.MISSING_TOKEN);
         }
 
         JwtUserClaims claims;
+        long start = System.nanoTime();
         try {
             claims = tokenValidator.validate(authorization.substring(7));
         } catch (JwtValidationException ex) {
-            return unauthorized(exchange, "Invalid or expired token");
+            return GatewayErrorResponses.write(exchange, GatewayError.INVALID_TOKEN);
+        } finally {
+            exchange.getAttributes().put(VALIDATION_NANOS_ATTRIBUTE, System.nanoTime() - start);
         }
 
-        if (requiresAdmin(path) && !"ADMIN".equalsIgnoreCase(claims.role())) {
-            return forbidden(exchange, "ADMIN role required");
+        if (access == PathAccess.ADMIN && !"ADMIN".equalsIgnoreCase(claims.role())) {
+            return GatewayErrorResponses.write(exchange, GatewayError.ADMIN_REQUIRED);
         }
 
+        exchange.getAttributes().put(CLAIMS_ATTRIBUTE, claims);
+        String signature = identitySigner.sign(
+                claims.email(), claims.role(), request.getMethod().name(), request.getURI().getRawPath());
         ServerHttpRequest authenticatedRequest = request.mutate()
-                .header("X-Auth-Email", claims.email())
-                .header("X-Auth-Role", claims.role())
+                .headers(headers -> {
+                    headers.set(GatewayIdentitySigner.EMAIL_HEADER, claims.email());
+                    headers.set(GatewayIdentitySigner.ROLE_HEADER, claims.role());
+                    if (signature != null) {
+                        headers.set(GatewayIdentitySigner.SIGNATURE_HEADER, signature);
+                    } else {
+                        headers.remove(GatewayIdentitySigner.SIGNATURE_HEADER);
+                    }
+                })
                 .build();
 
         return chain.filter(exchange.mutate().request(authenticatedRequest).build());
     }
 
-    private boolean isOpenPath(String path) {
-        List<String> openPaths = securityProperties.getOpenPaths();
-        return openPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
-    }
-
-    private boolean requiresAdmin(String path) {
-        List<String> adminPaths = securityProperties.getAdminPaths();
-        return adminPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
-    }
-
-    private Mono<Void> unauthorized(ServerWebExchange exchange, String message) {
-        var response = exchange.getResponse();
-        if (response.isCommitted()) {
-            return response.setComplete();
+    // 클라이언트가 보낸 신원 헤더는 게이트웨이가 검증한 값이 아니므로 그대로 넘기지 않는다.
+    private ServerWebExchange stripIdentityHeaders(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        if (!headers.containsKey(GatewayIdentitySigner.EMAIL_HEADER)
+                && !headers.containsKey(GatewayIdentitySigner.ROLE_HEADER)
+                && !headers.containsKey(GatewayIdentitySigner.SIGNATURE_HEADER)) {
+            return exchange;
         }
-        response.setStatusCode(HttpStatus.UNAUTHORIZED);
-        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
-        byte[] bytes = ("{\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
-        DataBuffer buffer = response.bufferFactory().wrap(bytes);
-        return response.writeWith(Mono.just(buffer));
-    }
-
-    private Mono<Void> forbidden(ServerWebExchange exchange, String message) {
-        var response = exchange.getResponse();
-        if (response.isCommitted()) {
-            return response.setComplete();
-        }
-        response.setStatusCode(HttpStatus.FORBIDDEN);
-        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
-        byte[] bytes = ("{\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
-        DataBuffer buffer = response.bufferFactory().wrap(bytes);
-        return response.writeWith(Mono.just(buffer));
+        ServerHttpRequest stripped = exchange.getRequest().mutate()
+                .headers(mutable -> {
+                    mutable.remove(GatewayIdentitySigner.EMAIL_HEADER);
+                    mutable.remove(GatewayIdentitySigner.ROLE_HEADER);
+                    mutable.remove(GatewayIdentitySigner.SIGNATURE_HEADER);
+                })
+                .build();
+        return exchange.mutate().request(stripped).build();
     }
 
     @Override
     public int getOrder() {
-        return -1;
+        return GatewayFilterOrders.AUTHENTICATION;
     }
 }
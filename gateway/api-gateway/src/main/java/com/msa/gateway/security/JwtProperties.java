@@ -9,6 +9,7 @@ public class JwtProperties {
 
     private String secret;
     private long expirationSeconds = 3600;
+    private final Cache cache = new Cache();
 
     public String getSecret() {
         return secret;
@@ -25,4 +26,37 @@ public class JwtProperties {
     public void setExpirationSeconds(long expirationSeconds) {
         this.expirationSeconds = expirationSeconds;
     }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public static class Cache {
+
+        /**
+         * 검증된 토큰 클레임 캐시 최대 항목 수 (0이면 비활성화)
+         */
+        private int maxEntries = 10_000;
+
+        /**
+         * 토큰 exp와 별개로 캐시 항목이 유지되는 최대 시간(초)
+         */
+        private long maxTtlSeconds = 300;
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public long getMaxTtlSeconds() {
+            return maxTtlSeconds;
+        }
+
+        public void setMaxTtlSeconds(long maxTtlSeconds) {
+            this.maxTtlSeconds = maxTtlSeconds;
+        }
+    }
 }
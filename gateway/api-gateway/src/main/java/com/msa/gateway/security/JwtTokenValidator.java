@@ -2,46 +2,97 @@ package com.msa.gateway.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Clock;
+import java.util.Date;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtTokenValidator {
 
-    private final Key signingKey;
+    private static final int DEFAULT_CACHE_MAX_ENTRIES = 10_000;
+    private static final long DEFAULT_CACHE_MAX_TTL_SECONDS = 300;
+
+    private final JwtParser parser;
+    private final VerifiedTokenCache cache;
+    private final Clock clock;
 
     @Autowired
     public JwtTokenValidator(JwtProperties properties) {
-        String secret = properties.getSecret();
-        if (secret == null || secret.length() < 32) {
-            throw new IllegalArgumentException("JWT secret must be at least 32 characters.");
-        }
-        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this(signingKey(properties.getSecret()),
+                properties.getCache().getMaxEntries(),
+                properties.getCache().getMaxTtlSeconds(),
+                Clock.systemUTC());
     }
 
     public JwtTokenValidator(Key signingKey) {
-        this.signingKey = signingKey;
+        this(signingKey, DEFAULT_CACHE_MAX_ENTRIES, DEFAULT_CACHE_MAX_TTL_SECONDS, Clock.systemUTC());
+    }
+
+    JwtTokenValidator(Key signingKey, int cacheMaxEntries, long cacheMaxTtlSeconds, Clock clock) {
+        this.clock = clock;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .setClock(() -> new Date(clock.millis()))
+                .build();
+        this.cache = new VerifiedTokenCache(cacheMaxEntries, cacheMaxTtlSeconds * 1000);
     }
 
     public JwtUserClaims validate(String token) {
+        if (token == null || token.isBlank() || !cache.isEnabled()) {
+            return parse(token).claims();
+        }
+        long now = clock.millis();
+        VerifiedTokenCache.TokenDigest key = VerifiedTokenCache.digest(token);
+        JwtUserClaims cached = cache.get(key, now);
+        if (cached != null) {
+            return cached;
+        }
+        ParsedToken parsed = parse(token);
+        cache.put(key, parsed.claims(), parsed.expiresAtMillis(), now);
+        return parsed.claims();
+    }
+
+    public long getCacheHitCount() {
+        return cache.hitCount();
+    }
+
+    public long getCacheMissCount() {
+        return cache.missCount();
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    private ParsedToken parse(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parser.parseClaimsJws(token).getBody();
             String subject = claims.getSubject();
             String role = claims.get("role", String.class);
             if (subject == null || role == null) {
                 throw new JwtValidationException("Missing claims");
             }
-            return new JwtUserClaims(subject, role);
+            Date expiration = claims.getExpiration();
+            long expiresAt = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+            return new ParsedToken(new JwtUserClaims(subject, role), expiresAt);
         } catch (JwtException | IllegalArgumentException ex) {
             throw new JwtValidationException("Invalid token", ex);
         }
     }
+
+    private static Key signingKey(String secret) {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalArgumentException("JWT secret must be at least 32 characters.");
+        }
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record ParsedToken(JwtUserClaims claims, long expiresAtMillis) {
+    }
 }
@@ -0,0 +1,7 @@
+package com.msa.gateway.security;
+
+public enum PathAccess {
+    OPEN,
+    AUTHENTICATED,
+    ADMIN
+}
@@ -0,0 +1,153 @@
+package com.msa.gateway.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
+
+@Component
+public class PathAccessRules {
+
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private final GatewaySecurityProperties properties;
+    private final int cacheSize;
+    private volatile CompiledRules compiled;
+
+    @Autowired
+    public PathAccessRules(GatewaySecurityProperties properties) {
+        this(properties, DEFAULT_CACHE_SIZE);
+    }
+
+    PathAccessRules(GatewaySecurityProperties properties, int cacheSize) {
+        this.properties = properties;
+        this.cacheSize = cacheSize;
+        this.compiled = compile(properties.getOpenPaths(), properties.getAdminPaths());
+    }
+
+    public PathAccess resolve(String path) {
+        CompiledRules rules = current();
+        PathAccess cached = rules.cache.get(path);
+        if (cached != null) {
+            return cached;
+        }
+        PathAccess access = rules.lookup(path);
+        if (rules.cache.size() >= cacheSize) {
+            rules.cache.clear();
+        }
+        rules.cache.put(path, access);
+        return access;
+    }
+
+    private CompiledRules current() {
+        CompiledRules rules = compiled;
+        List<String> openPaths = properties.getOpenPaths();
+        List<String> adminPaths = properties.getAdminPaths();
+        // 설정 리프레시 시 바인더가 리스트를 새로 주입하므로 참조가 바뀌면 다시 컴파일한다.
+        if (rules.openSource != openPaths || rules.adminSource != adminPaths) {
+            synchronized (this) {
+                rules = compiled;
+                if (rules.openSource != openPaths || rules.adminSource != adminPaths) {
+                    rules = compile(openPaths, adminPaths);
+                    compiled = rules;
+                }
+            }
+        }
+        return rules;
+    }
+
+    private static CompiledRules compile(List<String> openPaths, List<String> adminPaths) {
+        PathPatternParser parser = new PathPatternParser();
+        Node root = new Node();
+        for (String pattern : openPaths) {
+            root.insert(parse(parser, pattern), PathAccess.OPEN);
+        }
+        for (String pattern : adminPaths) {
+            root.insert(parse(parser, pattern), PathAccess.ADMIN);
+        }
+        return new CompiledRules(openPaths, adminPaths, root);
+    }
+
+    private static PathPattern parse(PathPatternParser parser, String pattern) {
+        try {
+            return parser.parse(pattern);
+        } catch (PatternParseException ex) {
+            throw new IllegalArgumentException("Invalid gateway security path pattern: " + pattern, ex);
+        }
+    }
+
+    private static final class CompiledRules {
+
+        private final List<String> openSource;
+        private final List<String> adminSource;
+        private final Node root;
+        private final Map<String, PathAccess> cache = new ConcurrentHashMap<>();
+
+        private CompiledRules(List<String> openSource, List<String> adminSource, Node root) {
+            this.openSource = openSource;
+            this.adminSource = adminSource;
+            this.root = root;
+        }
+
+        private PathAccess lookup(String path) {
+            PathContainer container = PathContainer.parsePath(path);
+            boolean admin = false;
+            Node node = root;
+            int start = path.startsWith("/") ? 1 : 0;
+            while (node != null) {
+                for (Rule rule : node.rules) {
+                    if (rule.pattern.matches(container)) {
+                        if (rule.access == PathAccess.OPEN) {
+                            return PathAccess.OPEN;
+                        }
+                        admin = true;
+                    }
+                }
+                if (start > path.length()) {
+                    break;
+                }
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    end = path.length();
+                }
+                node = node.children.get(path.substring(start, end));
+                start = end + 1;
+            }
+            return admin ? PathAccess.ADMIN : PathAccess.AUTHENTICATED;
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Rule> rules = new ArrayList<>();
+
+        private void insert(PathPattern pattern, PathAccess access) {
+            Node node = this;
+            for (String segment : pattern.getPatternString().split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (!isLiteral(segment)) {
+                    break;
+                }
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            node.rules.add(new Rule(pattern, access));
+        }
+
+        private static boolean isLiteral(String segment) {
+            return segment.indexOf('*') < 0 && segment.indexOf('?') < 0 && segment.indexOf('{') < 0;
+        }
+    }
+
+    private record Rule(PathPattern pattern, PathAccess access) {
+    }
+}
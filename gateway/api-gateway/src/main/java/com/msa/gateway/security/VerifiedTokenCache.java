@@ -0,0 +1,97 @@
+package com.msa.gateway.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+final class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    });
+
+    private final Map<TokenDigest, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long maxTtlMillis;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    VerifiedTokenCache(int maxEntries, long maxTtlMillis) {
+        this.maxEntries = maxEntries;
+        this.maxTtlMillis = maxTtlMillis;
+    }
+
+    boolean isEnabled() {
+        return maxEntries > 0 && maxTtlMillis > 0;
+    }
+
+    static TokenDigest digest(String token) {
+        MessageDigest digest = SHA_256.get();
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    JwtUserClaims get(TokenDigest key, long nowMillis) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAtMillis() <= nowMillis) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.claims();
+    }
+
+    void put(TokenDigest key, JwtUserClaims claims, long tokenExpiresAtMillis, long nowMillis) {
+        long expiresAt = Math.min(tokenExpiresAtMillis, nowMillis + maxTtlMillis);
+        if (expiresAt <= nowMillis) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(nowMillis);
+        }
+        entries.put(key, new Entry(claims, expiresAt));
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long nowMillis) {
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= nowMillis);
+        // 만료 항목이 없으면 임의 항목을 10% 정도 비워 매 요청마다 정리가 반복되지 않게 한다.
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<TokenDigest> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    record TokenDigest(long first, long second, long third, long fourth) {
+    }
+
+    private record Entry(JwtUserClaims claims, long expiresAtMillis) {
+    }
+}
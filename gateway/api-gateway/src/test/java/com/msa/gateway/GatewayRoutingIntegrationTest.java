@@ -17,11 +17,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
 import reactor.netty.http.server.HttpServer;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -52,12 +55,18 @@ class GatewayRoutingIntegrationTest {
                         })
                         .get("/api/v1/boards", (req, res) -> res.status(200)
                                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                .sendString(Mono.just("{\"board\":\"ok\"}"))))
+                                .sendString(Mono.just("{\"board\":\"ok\"}")))
+                        .get("/api/v1/boards/{boardId}/posts", (req, res) -> res.status(200)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .sendString(Flux.range(0, 200)
+                                        .map(i -> (i == 0 ? "[" : ",") + "{\"content\":\"" + "x".repeat(100) + "\"}")
+                                        .concatWith(Mono.just("]")))))
                 .bindNow();
         registry.add("MEMBER_SERVICE_URL", () -> "http://localhost:" + memberServer.port());
         registry.add("IDENTITY_SERVICE_URL", () -> "http://localhost:" + memberServer.port());
         registry.add("BOARD_SERVICE_URL", () -> "http://localhost:" + memberServer.port());
         registry.add("JWT_SECRET", () -> "change-me-please-change-me-32bytes");
+        registry.add("GATEWAY_IDENTITY_SECRET", () -> "gateway-identity-test-secret-32bytes!");
     }
 
     @AfterAll
@@ -126,6 +135,41 @@ class GatewayRoutingIntegrationTest {
                 .expectBody().json("{\"board\":\"ok\"}");
     }
 
+    @Test
+    void compressesLargeJsonResponsesWhenClientAcceptsGzip() {
+        String token = createToken("reader@example.com", "USER");
+
+        // 기본 커넥터는 응답을 자동으로 풀고 Content-Encoding을 지우므로 압축 해제를 끈 클라이언트로 확인한다.
+        WebTestClient rawClient = WebTestClient.bindToServer(new ReactorClientHttpConnector(HttpClient.create()))
+                .baseUrl("http://localhost:" + port)
+                .build();
+
+        rawClient.get()
+                .uri("/api/v1/boards/1/posts")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
+    @Test
+    void doesNotCompressSmallResponses() {
+        String token = createToken("reader@example.com", "USER");
+
+        WebTestClient rawClient = WebTestClient.bindToServer(new ReactorClientHttpConnector(HttpClient.create()))
+                .baseUrl("http://localhost:" + port)
+                .build();
+
+        rawClient.get()
+                .uri("/api/v1/boards")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING);
+    }
+
     private String createToken(String email, String role) {
         Instant now = Instant.now();
         return Jwts.builder()
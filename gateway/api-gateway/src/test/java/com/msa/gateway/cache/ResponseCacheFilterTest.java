@@ -0,0 +1,139 @@
+package com.msa.gateway.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.msa.gateway.security.JwtAuthenticationFilter;
+import com.msa.gateway.security.JwtUserClaims;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ResponseCacheFilterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private ResponseCacheStore store;
+    private ResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+        store = new ResponseCacheStore(properties, now::get);
+        filter = new ResponseCacheFilter(properties, store);
+    }
+
+    @Test
+    void shouldServeSecondRequestFromCache() {
+        MockServerWebExchange first = exchange("/api/v1/boards?page=0", "USER");
+        StepVerifier.create(filter.filter(first, upstream("{\"page\":0}"))).verifyComplete();
+
+        MockServerWebExchange second = exchange("/api/v1/boards?page=0", "USER");
+        StepVerifier.create(filter.filter(second, upstream("{\"page\":0}"))).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(second.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(second.getResponse().getHeaders().getETag()).isNotNull();
+        StepVerifier.create(second.getResponse().getBodyAsString()).expectNext("{\"page\":0}").verifyComplete();
+        assertThat(store.getHitCount()).isEqualTo(1);
+        assertThat(store.getBytesSaved()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldSeparateEntriesByRoleAndQuery() {
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards?page=0", "USER"), upstream("user"))).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards?page=0", "ADMIN"), upstream("admin"))).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards?page=1", "USER"), upstream("user"))).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForMatchingETag() {
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards", "USER"), upstream("{}"))).verifyComplete();
+        MockServerWebExchange cached = exchange("/api/v1/boards", "USER");
+        StepVerifier.create(filter.filter(cached, upstream("{}"))).verifyComplete();
+        String etag = cached.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/boards")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .build());
+        conditional.getAttributes().put(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE,
+                new JwtUserClaims("user@example.com", "USER"));
+        StepVerifier.create(filter.filter(conditional, upstream("{}"))).verifyComplete();
+
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards", "USER"), upstream("{}"))).verifyComplete();
+        now.addAndGet(6_000);
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards", "USER"), upstream("{}"))).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheErrorsOrOtherPaths() {
+        GatewayFilterChain failing = ex -> {
+            upstreamCalls.incrementAndGet();
+            ex.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            return ex.getResponse().setComplete();
+        };
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards", "USER"), failing)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards", "USER"), upstream("{}"))).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/v1/members", "ADMIN"), upstream("{}"))).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/v1/members", "ADMIN"), upstream("{}"))).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesByBytes() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+        properties.setMaxBytes(2_000);
+        ResponseCacheStore smallStore = new ResponseCacheStore(properties, now::get);
+        ResponseCacheFilter smallFilter = new ResponseCacheFilter(properties, smallStore);
+        String body = "x".repeat(500);
+
+        for (int i = 0; i < 10; i++) {
+            StepVerifier.create(smallFilter.filter(exchange("/api/v1/boards?page=" + i, "USER"), upstream(body)))
+                    .verifyComplete();
+        }
+
+        assertThat(smallStore.getSizeBytes()).isLessThanOrEqualTo(2_000);
+        assertThat(smallStore.getEntryCount()).isBetween(1, 3);
+    }
+
+    private MockServerWebExchange exchange(String uri, String role) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri).build());
+        exchange.getAttributes().put(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE,
+                new JwtUserClaims("user@example.com", role));
+        return exchange;
+    }
+
+    private GatewayFilterChain upstream(String body) {
+        return ex -> {
+            upstreamCalls.incrementAndGet();
+            ex.getResponse().setStatusCode(HttpStatus.OK);
+            ex.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            return ex.getResponse().writeWith(Mono.just(ex.getResponse().bufferFactory().wrap(bytes)));
+        };
+    }
+}
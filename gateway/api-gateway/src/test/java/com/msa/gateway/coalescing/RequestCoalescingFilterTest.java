@@ -0,0 +1,115 @@
+package com.msa.gateway.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.msa.gateway.security.JwtAuthenticationFilter;
+import com.msa.gateway.security.JwtUserClaims;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class RequestCoalescingFilterTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private RequestCoalescingProperties properties;
+    private RequestCoalescingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestCoalescingProperties();
+        properties.setEnabled(true);
+        filter = new RequestCoalescingFilter(properties);
+    }
+
+    @Test
+    void shouldShareSingleUpstreamCallAmongConcurrentRequests() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain chain = delayedUpstream(release, "{\"members\":[]}");
+        MockServerWebExchange first = exchange("/api/v1/members?page=0&size=10", "ADMIN");
+        MockServerWebExchange second = exchange("/api/v1/members?page=0&size=10", "ADMIN");
+        MockServerWebExchange third = exchange("/api/v1/members?page=0&size=10", "ADMIN");
+
+        Mono<Void> all = Mono.when(filter.filter(first, chain), filter.filter(second, chain), filter.filter(third, chain));
+        StepVerifier.create(all)
+                .then(() -> release.tryEmitEmpty())
+                .verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(filter.getCoalescedRequestCount()).isEqualTo(2);
+        assertThat(filter.inFlightCount()).isZero();
+        for (MockServerWebExchange exchange : new MockServerWebExchange[] {first, second, third}) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            StepVerifier.create(exchange.getResponse().getBodyAsString())
+                    .expectNext("{\"members\":[]}")
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldNotShareAcrossRolesOrAfterCompletion() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain chain = delayedUpstream(release, "{}");
+        release.tryEmitEmpty();
+
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards", "USER"), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards", "USER"), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/v1/boards", "ADMIN"), chain)).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(filter.getCoalescedRequestCount()).isZero();
+    }
+
+    @Test
+    void shouldStreamToLeaderAndLetWaitersCallUpstreamWhenBodyExceedsLimit() {
+        properties.setMaxBodyBytes(16);
+        filter = new RequestCoalescingFilter(properties);
+        String large = "{\"members\":[\"" + "x".repeat(64) + "\"]}";
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain chain = delayedUpstream(release, large);
+        MockServerWebExchange first = exchange("/api/v1/members", "ADMIN");
+        MockServerWebExchange second = exchange("/api/v1/members", "ADMIN");
+        MockServerWebExchange third = exchange("/api/v1/members", "ADMIN");
+
+        Mono<Void> all = Mono.when(filter.filter(first, chain), filter.filter(second, chain), filter.filter(third, chain));
+        StepVerifier.create(all)
+                .then(() -> release.tryEmitEmpty())
+                .verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(filter.getStreamedResponseCount()).isEqualTo(1);
+        assertThat(filter.inFlightCount()).isZero();
+        for (MockServerWebExchange exchange : new MockServerWebExchange[] {first, second, third}) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            StepVerifier.create(exchange.getResponse().getBodyAsString())
+                    .expectNext(large)
+                    .verifyComplete();
+        }
+    }
+
+    private MockServerWebExchange exchange(String uri, String role) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri).build());
+        exchange.getAttributes().put(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE,
+                new JwtUserClaims("admin@example.com", role));
+        return exchange;
+    }
+
+    private GatewayFilterChain delayedUpstream(Sinks.Empty<Void> release, String body) {
+        return ex -> release.asMono().then(Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            ex.getResponse().setStatusCode(HttpStatus.OK);
+            ex.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            return ex.getResponse().writeWith(Mono.just(ex.getResponse().bufferFactory().wrap(bytes)));
+        }));
+    }
+}
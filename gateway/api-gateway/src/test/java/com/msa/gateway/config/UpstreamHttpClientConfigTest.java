@@ -0,0 +1,82 @@
+package com.msa.gateway.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.ChannelOption;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+class UpstreamHttpClientConfigTest {
+
+    @Test
+    void shouldConfigurePoolPerUpstreamHost() {
+        UpstreamPoolProperties properties = new UpstreamPoolProperties();
+        UpstreamPoolProperties.Pool identityPool = new UpstreamPoolProperties.Pool();
+        identityPool.setMaxConnections(10);
+        properties.setRoutes(Map.of("identity-service", identityPool));
+
+        ConnectionProvider provider = UpstreamHttpClientConfig.buildConnectionProvider(properties, List.of(
+                route("identity-service", "http://identity:8081"),
+                route("board-service", "http://board:8084")));
+        try {
+            assertThat(provider.maxConnections()).isEqualTo(200);
+            assertThat(provider.maxConnectionsPerHost())
+                    .containsEntry(InetSocketAddress.createUnresolved("identity", 8081), 10)
+                    .containsEntry(InetSocketAddress.createUnresolved("board", 8084), 200);
+        } finally {
+            provider.dispose();
+        }
+    }
+
+    @Test
+    void shouldKeepGatewayHttpClientSettingsWhileUsingUpstreamPool() throws Exception {
+        HttpClientProperties httpClientProperties = new HttpClientProperties();
+        httpClientProperties.setConnectTimeout(1234);
+        httpClientProperties.setWiretap(true);
+        ServerProperties serverProperties = new ServerProperties();
+        UpstreamHttpClientConfig config = new UpstreamHttpClientConfig();
+        ConnectionProvider provider = UpstreamHttpClientConfig.buildConnectionProvider(
+                new UpstreamPoolProperties(), List.of(route("board-service", "http://board:8084")));
+        try {
+            HttpClientFactory factory = config.upstreamHttpClientFactory(httpClientProperties, serverProperties,
+                    new ArrayList<>(List.of(config.upstreamKeepAliveCustomizer())),
+                    new HttpClientSslConfigurer(httpClientProperties.getSsl(), serverProperties), provider);
+            factory.afterPropertiesSet();
+            HttpClient client = factory.getObject();
+
+            assertThat(client.configuration().connectionProvider()).isSameAs(provider);
+            Map<ChannelOption<?>, ?> options = client.configuration().options();
+            assertThat(options.get(ChannelOption.CONNECT_TIMEOUT_MILLIS)).isEqualTo(1234);
+            assertThat(options.get(ChannelOption.SO_KEEPALIVE)).isEqualTo(true);
+            assertThat(client.configuration().loggingHandler()).isNotNull();
+        } finally {
+            provider.dispose();
+        }
+    }
+
+    @Test
+    void shouldUseDefaultPortsForRemoteAddress() {
+        assertThat(UpstreamHttpClientConfig.remoteAddress(URI.create("http://member")))
+                .isEqualTo(InetSocketAddress.createUnresolved("member", 80));
+        assertThat(UpstreamHttpClientConfig.remoteAddress(URI.create("https://member")))
+                .isEqualTo(InetSocketAddress.createUnresolved("member", 443));
+    }
+
+    private RouteDefinition route(String id, String uri) {
+        RouteDefinition definition = new RouteDefinition();
+        definition.setId(id);
+        definition.setUri(URI.create(uri));
+        return definition;
+    }
+}
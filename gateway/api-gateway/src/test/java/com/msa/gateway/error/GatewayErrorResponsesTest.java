@@ -0,0 +1,45 @@
+package com.msa.gateway.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.test.StepVerifier;
+
+class GatewayErrorResponsesTest {
+
+    @Test
+    void shouldWritePreEncodedBodyWithErrorCode() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/members").build());
+
+        StepVerifier.create(GatewayErrorResponses.write(exchange, GatewayError.INVALID_TOKEN)).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(exchange.getResponse().getHeaders().getFirst(GatewayErrorResponses.ERROR_CODE_HEADER))
+                .isEqualTo("INVALID_TOKEN");
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext("{\"code\":\"INVALID_TOKEN\",\"message\":\"Invalid or expired token\"}")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReuseSharedBodyAcrossResponses() {
+        for (int i = 0; i < 3; i++) {
+            MockServerWebExchange exchange =
+                    MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/members").build());
+
+            StepVerifier.create(GatewayErrorResponses.write(exchange, GatewayError.ADMIN_REQUIRED)).verifyComplete();
+
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+            assertThat(exchange.getResponse().getHeaders().getContentLength())
+                    .isEqualTo(GatewayError.ADMIN_REQUIRED.getContentLength());
+            StepVerifier.create(exchange.getResponse().getBodyAsString())
+                    .expectNext("{\"code\":\"ADMIN_REQUIRED\",\"message\":\"ADMIN role required\"}")
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.msa.gateway.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.msa.gateway.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class RequestMetricsFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private RequestMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new RequestMetricsFilter(registry);
+    }
+
+    @Test
+    void shouldRecordLatencyStatusAndBytesPerRoute() {
+        MockServerWebExchange exchange = exchange();
+        exchange.getAttributes().put(JwtAuthenticationFilter.VALIDATION_NANOS_ATTRIBUTE, 1_000L);
+        GatewayFilterChain chain = ex -> {
+            ex.getResponse().setStatusCode(HttpStatus.OK);
+            byte[] body = "hello".getBytes(StandardCharsets.UTF_8);
+            return ex.getResponse().writeWith(Mono.just(ex.getResponse().bufferFactory().wrap(body)));
+        };
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        Timer timer = registry.get("gateway.route.requests")
+                .tags("route", "board-service", "method", "GET", "status", "2xx")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(registry.get("gateway.route.response.bytes").tag("route", "board-service").summary().totalAmount())
+                .isEqualTo(5);
+        assertThat(registry.get("gateway.route.jwt.validation").tag("route", "board-service").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordStatusClassOfErrors() {
+        MockServerWebExchange exchange = exchange();
+        GatewayFilterChain chain = ex -> Mono.error(new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyError(ResponseStatusException.class);
+
+        assertThat(registry.get("gateway.route.requests")
+                .tags("route", "board-service", "status", "5xx")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    private MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/boards").build());
+        Route route = Route.async()
+                .id("board-service")
+                .uri(URI.create("http://localhost:8084"))
+                .predicate(ex -> true)
+                .build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+}
@@ -0,0 +1,73 @@
+package com.msa.gateway.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private RateLimitProperties properties;
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setDefaultLimit(new RateLimitProperties.Limit(3, 1));
+        properties.setRoutes(Map.of("identity-service", new RateLimitProperties.Limit(1, 2)));
+        properties.setIdleTimeout(Duration.ofSeconds(30));
+        rateLimiter = new TokenBucketRateLimiter(properties, now::get);
+    }
+
+    @Test
+    void shouldAllowBurstUpToCapacityThenReject() {
+        assertThat(rateLimiter.tryAcquire("board-service", "ip:1.1.1.1")).isZero();
+        assertThat(rateLimiter.tryAcquire("board-service", "ip:1.1.1.1")).isZero();
+        assertThat(rateLimiter.tryAcquire("board-service", "ip:1.1.1.1")).isZero();
+
+        long wait = rateLimiter.tryAcquire("board-service", "ip:1.1.1.1");
+
+        assertThat(wait).isEqualTo(Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void shouldRefillOverTime() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("board-service", "sub:user@example.com");
+        }
+        assertThat(rateLimiter.tryAcquire("board-service", "sub:user@example.com")).isPositive();
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertThat(rateLimiter.tryAcquire("board-service", "sub:user@example.com")).isZero();
+    }
+
+    @Test
+    void shouldApplyPerRouteLimitAndIsolateClients() {
+        assertThat(rateLimiter.tryAcquire("identity-service", "ip:1.1.1.1")).isZero();
+        assertThat(rateLimiter.tryAcquire("identity-service", "ip:1.1.1.1")).isEqualTo(500_000_000L);
+
+        assertThat(rateLimiter.tryAcquire("identity-service", "ip:2.2.2.2")).isZero();
+        assertThat(rateLimiter.tryAcquire("board-service", "ip:1.1.1.1")).isZero();
+    }
+
+    @Test
+    void shouldEvictIdleBuckets() {
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.tryAcquire("board-service", "ip:10.0.0." + i);
+        }
+        assertThat(rateLimiter.bucketCount()).isEqualTo(100);
+
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        for (int i = 0; i < 1024 * 16; i++) {
+            rateLimiter.tryAcquire("board-service", "ip:192.168.0.1");
+            now.addAndGet(Duration.ofSeconds(1).toNanos());
+        }
+
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+    }
+}
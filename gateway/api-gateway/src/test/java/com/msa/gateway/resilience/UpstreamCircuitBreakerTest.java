@@ -0,0 +1,93 @@
+package com.msa.gateway.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpstreamCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private UpstreamCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceProperties.CircuitBreaker config = new ResilienceProperties.CircuitBreaker();
+        config.setSlidingWindowSize(10);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(50);
+        config.setOpenDuration(Duration.ofSeconds(5));
+        config.setHalfOpenCalls(2);
+        breaker = new UpstreamCircuitBreaker(config, now::get);
+    }
+
+    @Test
+    void shouldStayClosedBelowMinimumCalls() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(breaker.tryAcquire()).isZero();
+            breaker.onFailure();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateExceedsThreshold() {
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(Duration.ofSeconds(5).toNanos());
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulHalfOpenCalls() {
+        openBreaker();
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        assertThat(breaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isZero();
+        assertThat(breaker.tryAcquire()).isZero();
+        assertThat(breaker.tryAcquire()).isPositive();
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+        assertThat(breaker.getBufferedCalls()).isZero();
+    }
+
+    @Test
+    void shouldReopenWhenHalfOpenCallFails() {
+        openBreaker();
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        assertThat(breaker.tryAcquire()).isZero();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldReturnHalfOpenPermitForIgnoredCalls() {
+        openBreaker();
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        breaker.tryAcquire();
+        breaker.tryAcquire();
+
+        breaker.onIgnored();
+
+        assertThat(breaker.tryAcquire()).isZero();
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertThat(breaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+    }
+}
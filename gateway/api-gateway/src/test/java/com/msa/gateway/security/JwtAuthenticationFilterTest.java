@@ -7,6 +7,9 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
@@ -105,6 +108,49 @@ class JwtAuthenticationFilterTest {
         assertThat(roleHeader.get()).isEqualTo("ADMIN");
     }
 
+    @Test
+    void shouldStripClientSuppliedIdentityHeadersOnOpenPath() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/auth/login")
+                .header(GatewayIdentitySigner.EMAIL_HEADER, "admin@example.com")
+                .header(GatewayIdentitySigner.ROLE_HEADER, "ADMIN")
+                .header(GatewayIdentitySigner.SIGNATURE_HEADER, "1.forged")
+                .build());
+        AtomicReference<HttpHeaders> forwarded = new AtomicReference<>();
+        GatewayFilterChain chain = ex -> {
+            forwarded.set(ex.getRequest().getHeaders());
+            return Mono.empty();
+        };
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(forwarded.get().containsKey(GatewayIdentitySigner.EMAIL_HEADER)).isFalse();
+        assertThat(forwarded.get().containsKey(GatewayIdentitySigner.ROLE_HEADER)).isFalse();
+        assertThat(forwarded.get().containsKey(GatewayIdentitySigner.SIGNATURE_HEADER)).isFalse();
+    }
+
+    @Test
+    void shouldForwardSignedIdentityHeaderWhenSignerEnabled() {
+        Clock clock = Clock.fixed(Instant.ofEpochSecond(1_700_000_000L), ZoneOffset.UTC);
+        GatewayIdentitySigner signer = new GatewayIdentitySigner("change-me-please-change-me-32bytes", clock);
+        JwtAuthenticationFilter signingFilter = new JwtAuthenticationFilter(
+                new JwtTokenValidator(signingKey), new PathAccessRules(securityProperties), signer);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/members")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + createToken("ADMIN"))
+                .header(GatewayIdentitySigner.SIGNATURE_HEADER, "1.forged")
+                .build());
+        AtomicReference<HttpHeaders> forwarded = new AtomicReference<>();
+        GatewayFilterChain chain = ex -> {
+            forwarded.set(ex.getRequest().getHeaders());
+            return Mono.empty();
+        };
+
+        StepVerifier.create(signingFilter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(forwarded.get().get(GatewayIdentitySigner.SIGNATURE_HEADER))
+                .containsExactly(signer.sign("user@example.com", "ADMIN", "GET", "/api/v1/members"));
+        assertThat(forwarded.get().getFirst(GatewayIdentitySigner.SIGNATURE_HEADER)).startsWith("1700000000.");
+    }
+
     private String createToken(String role) {
         return Jwts.builder()
                 .setSubject("user@example.com")
@@ -0,0 +1,111 @@
+package com.msa.gateway.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+
+class JwtTokenValidatorTest {
+
+    private final Key signingKey =
+            Keys.hmacShaKeyFor("change-me-please-change-me-32bytes".getBytes(StandardCharsets.UTF_8));
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void shouldServeRepeatedTokenFromCache() {
+        JwtTokenValidator validator = validatorAt(now, 100, 300);
+        String token = createToken(now.plusSeconds(3600));
+
+        JwtUserClaims first = validator.validate(token);
+        JwtUserClaims second = validator.validate(token);
+
+        assertThat(second).isEqualTo(first).isEqualTo(new JwtUserClaims("user@example.com", "ADMIN"));
+        assertThat(validator.getCacheMissCount()).isEqualTo(1);
+        assertThat(validator.getCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotServeCachedClaimsAfterTokenExpiry() {
+        MutableClock clock = new MutableClock(now);
+        JwtTokenValidator validator = new JwtTokenValidator(signingKey, 100, 300, clock);
+        String token = createToken(now.plusSeconds(60));
+
+        validator.validate(token);
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThatThrownBy(() -> validator.validate(token)).isInstanceOf(JwtValidationException.class);
+        assertThat(validator.getCacheHitCount()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheInvalidTokens() {
+        JwtTokenValidator validator = validatorAt(now, 100, 300);
+
+        assertThatThrownBy(() -> validator.validate("not-a-token")).isInstanceOf(JwtValidationException.class);
+        assertThat(validator.getCacheSize()).isZero();
+    }
+
+    @Test
+    void shouldStayWithinMaxEntries() {
+        JwtTokenValidator validator = validatorAt(now, 10, 300);
+
+        for (int i = 0; i < 50; i++) {
+            validator.validate(createToken(now.plusSeconds(3600 + i)));
+        }
+
+        assertThat(validator.getCacheSize()).isLessThanOrEqualTo(10);
+    }
+
+    private JwtTokenValidator validatorAt(Instant instant, int maxEntries, long maxTtlSeconds) {
+        return new JwtTokenValidator(signingKey, maxEntries, maxTtlSeconds, Clock.fixed(instant, ZoneOffset.UTC));
+    }
+
+    private String createToken(Instant expiresAt) {
+        return Jwts.builder()
+                .setSubject("user@example.com")
+                .claim("role", "ADMIN")
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(expiresAt))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.msa.gateway.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PathAccessRulesTest {
+
+    @Test
+    void shouldResolveDefaultRules() {
+        PathAccessRules rules = new PathAccessRules(new GatewaySecurityProperties());
+
+        assertThat(rules.resolve("/api/v1/auth/login")).isEqualTo(PathAccess.OPEN);
+        assertThat(rules.resolve("/api/v1/members/sync")).isEqualTo(PathAccess.OPEN);
+        assertThat(rules.resolve("/actuator")).isEqualTo(PathAccess.OPEN);
+        assertThat(rules.resolve("/actuator/health")).isEqualTo(PathAccess.OPEN);
+        assertThat(rules.resolve("/api/v1/members")).isEqualTo(PathAccess.ADMIN);
+        assertThat(rules.resolve("/api/v1/members/10/status")).isEqualTo(PathAccess.ADMIN);
+        assertThat(rules.resolve("/api/v1/admin/users")).isEqualTo(PathAccess.ADMIN);
+        assertThat(rules.resolve("/api/v1/boards/1/posts")).isEqualTo(PathAccess.AUTHENTICATED);
+        assertThat(rules.resolve("/api/v1/auth/me")).isEqualTo(PathAccess.AUTHENTICATED);
+        assertThat(rules.resolve("/")).isEqualTo(PathAccess.AUTHENTICATED);
+    }
+
+    @Test
+    void shouldMatchWildcardPatternsOutsideLiteralPrefix() {
+        GatewaySecurityProperties properties = new GatewaySecurityProperties();
+        properties.setOpenPaths(List.of("/api/*/public/**"));
+        properties.setAdminPaths(List.of("/api/v1/boards/{boardId}/admin"));
+        PathAccessRules rules = new PathAccessRules(properties);
+
+        assertThat(rules.resolve("/api/v2/public/docs")).isEqualTo(PathAccess.OPEN);
+        assertThat(rules.resolve("/api/v1/boards/7/admin")).isEqualTo(PathAccess.ADMIN);
+        assertThat(rules.resolve("/api/v1/boards/7/posts")).isEqualTo(PathAccess.AUTHENTICATED);
+    }
+
+    @Test
+    void shouldRecompileWhenPropertiesAreRebound() {
+        GatewaySecurityProperties properties = new GatewaySecurityProperties();
+        PathAccessRules rules = new PathAccessRules(properties);
+        assertThat(rules.resolve("/api/v1/boards")).isEqualTo(PathAccess.AUTHENTICATED);
+
+        properties.setAdminPaths(List.of("/api/v1/boards/**"));
+
+        assertThat(rules.resolve("/api/v1/boards")).isEqualTo(PathAccess.ADMIN);
+        assertThat(rules.resolve("/api/v1/members")).isEqualTo(PathAccess.AUTHENTICATED);
+    }
+
+    @Test
+    void shouldKeepResolvingAfterCacheOverflow() {
+        PathAccessRules rules = new PathAccessRules(new GatewaySecurityProperties(), 4);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(rules.resolve("/api/v1/members/" + i)).isEqualTo(PathAccess.ADMIN);
+        }
+        assertThat(rules.resolve("/api/v1/auth/login")).isEqualTo(PathAccess.OPEN);
+    }
+}
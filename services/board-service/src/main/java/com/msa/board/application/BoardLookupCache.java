@@ -0,0 +1,116 @@
+package com.msa.board.application;
+
+import com.msa.board.config.BoardCacheProperties;
+import com.msa.board.domain.BoardRepository;
+import com.msa.board.domain.BoardSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class BoardLookupCache {
+
+    private final BoardRepository boardRepository;
+    private final ConcurrentHashMap<UUID, CachedBoard> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public BoardLookupCache(BoardRepository boardRepository, BoardCacheProperties properties,
+                            MeterRegistry meterRegistry) {
+        this(boardRepository, properties.getTtl(), properties.getMaxEntries(), Clock.systemUTC(), meterRegistry);
+    }
+
+    public BoardLookupCache(BoardRepository boardRepository, Duration ttl, int maxEntries, Clock clock,
+                            MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.hits = Counter.builder("board.cache.requests")
+                .description("Board lookups served from the in-memory cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("board.cache.requests")
+                .description("Board lookups that went to the database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("board.cache.size", entries, Map::size)
+                .description("Boards currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 없거나 만료된 게시판은 DB에서 읽어 채운다. 없는 게시판은 캐시하지 않는다.
+     */
+    public Optional<BoardSnapshot> find(UUID boardId) {
+        long now = clock.millis();
+        CachedBoard cached = entries.get(boardId);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            hits.increment();
+            return Optional.of(cached.board());
+        }
+        misses.increment();
+        Optional<BoardSnapshot> loaded = boardRepository.findById(boardId).map(BoardSnapshot::of);
+        loaded.ifPresent(board -> put(board, now));
+        return loaded;
+    }
+
+    /**
+     * 변경이 커밋되기 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 비운다.
+     */
+    public void evict(UUID boardId) {
+        entries.remove(boardId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entries.remove(boardId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(BoardSnapshot board, long now) {
+        if (ttlMillis <= 0 || maxEntries <= 0) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(board.id(), new CachedBoard(board, now + ttlMillis));
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<UUID, CachedBoard>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().expiresAtMillis() <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private record CachedBoard(BoardSnapshot board, long expiresAtMillis) {
+    }
+}
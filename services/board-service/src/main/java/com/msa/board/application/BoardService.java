@@ -3,9 +3,11 @@ package com.msa.board.application;
 import com.msa.board.application.command.CreateBoardCommand;
 import com.msa.board.application.command.SearchBoardsCommand;
 import com.msa.board.application.command.UpdateBoardCommand;
+import com.msa.board.application.paging.TotalCounter;
 import com.msa.board.application.port.BoardUseCase;
 import com.msa.board.domain.Board;
 import com.msa.board.domain.BoardRepository;
+import com.msa.board.domain.BoardSnapshot;
 import com.msa.board.domain.BoardStatus;
 import com.msa.board.domain.BoardVisibility;
 import com.msa.board.domain.ResourceNotFoundException;
@@ -17,22 +19,33 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
 public class BoardService implements BoardUseCase {
 
+    static final String BOARD_TABLE = "boards";
+
     private final BoardRepository boardRepository;
+    private final TotalCounter totalCounter;
+    private final BoardLookupCache boardLookupCache;
 
-    public BoardService(BoardRepository boardRepository) {
+    public BoardService(BoardRepository boardRepository, TotalCounter totalCounter,
+                        BoardLookupCache boardLookupCache) {
         this.boardRepository = boardRepository;
+        this.totalCounter = totalCounter;
+        this.boardLookupCache = boardLookupCache;
     }
 
     @Override
     public Board createBoard(CreateBoardCommand command) {
         Board board = new Board(command.name(), command.visibility());
-        return boardRepository.save(board);
+        Board saved = boardRepository.save(board);
+        totalCounter.invalidate(BOARD_TABLE);
+        boardLookupCache.evict(saved.getId());
+        return saved;
     }
 
     @Override
@@ -40,13 +53,16 @@ public class BoardService implements BoardUseCase {
         Board board = boardRepository.findById(command.boardId())
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found"));
         board.update(command.name(), command.visibility(), command.status());
+        totalCounter.invalidate(BOARD_TABLE);
+        boardLookupCache.evict(board.getId());
         return board;
     }
 
+    // 캐시 적중 시 커넥션을 잡지 않도록 클래스 트랜잭션에서 빼고, 미스일 때만 리포지토리 트랜잭션으로 읽는다.
     @Override
-    @Transactional(readOnly = true)
-    public Board getBoard(UUID id) {
-        return boardRepository.findById(id)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BoardSnapshot getBoard(UUID id) {
+        return boardLookupCache.find(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found"));
     }
 
@@ -58,10 +74,25 @@ public class BoardService implements BoardUseCase {
         List<BoardStatus> statuses = normalizeStatuses(command.statuses());
         String keyword = command.query() != null ? command.query().trim() : "";
         if (!keyword.isEmpty()) {
-            return boardRepository.findByNameContainingIgnoreCaseAndVisibilityInAndStatusIn(
+            List<Board> content = boardRepository.findByNameContainingIgnoreCaseAndVisibilityInAndStatusIn(
                     keyword, visibilities, statuses, pageable);
+            return totalCounter.page(content, pageable, BOARD_TABLE,
+                    filterKey(keyword.toLowerCase(), visibilities, statuses),
+                    () -> boardRepository.countByNameContainingIgnoreCaseAndVisibilityInAndStatusIn(
+                            keyword, visibilities, statuses));
         }
-        return boardRepository.findByVisibilityInAndStatusIn(visibilities, statuses, pageable);
+        List<Board> content = boardRepository.findByVisibilityInAndStatusIn(visibilities, statuses, pageable);
+        // 모든 공개 범위·상태를 고른 목록은 필터가 없는 것과 같아 추정치를 쓸 수 있다.
+        boolean unfiltered = visibilities.size() == BoardVisibility.values().length
+                && statuses.size() == BoardStatus.values().length;
+        return totalCounter.page(content, pageable, BOARD_TABLE,
+                unfiltered ? null : filterKey("", visibilities, statuses),
+                () -> boardRepository.countByVisibilityInAndStatusIn(visibilities, statuses));
+    }
+
+    private String filterKey(String keyword, List<BoardVisibility> visibilities, List<BoardStatus> statuses) {
+        return keyword + "|" + visibilities.stream().map(Enum::name).sorted().toList()
+                + "|" + statuses.stream().map(Enum::name).sorted().toList();
     }
 
     private List<BoardVisibility> normalizeVisibilities(List<BoardVisibility> input) {
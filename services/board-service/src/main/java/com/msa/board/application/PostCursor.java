@@ -0,0 +1,47 @@
+package com.msa.board.application;
+
+import com.msa.board.domain.InvalidCursorException;
+import com.msa.board.domain.PostSummaryView;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 게시판 내 게시글 목록의 키셋 위치 (created_at, id). 외부에는 base64url 문자열로만 노출한다.
+ */
+public record PostCursor(Instant createdAt, UUID id) {
+
+    // 첫 페이지는 모든 행보다 큰 위치에서 시작해 같은 탐색 쿼리를 쓴다.
+    static final PostCursor START = new PostCursor(
+            Instant.parse("9999-12-31T23:59:59Z"), new UUID(-1L, -1L));
+
+    private static final char SEPARATOR = '|';
+
+    public static PostCursor of(PostSummaryView post) {
+        return new PostCursor(post.createdAt(), post.id());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException();
+            }
+            return new PostCursor(Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.msa.board.application;
+
+import com.msa.board.domain.PostSummaryView;
+import java.util.List;
+
+public record PostCursorPage(
+        List<PostSummaryView> posts,
+        String nextCursor,
+        Long totalElements
+) {
+}
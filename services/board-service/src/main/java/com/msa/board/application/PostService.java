@@ -1,15 +1,20 @@
 package com.msa.board.application;
 
 import com.msa.board.application.command.CreatePostCommand;
+import com.msa.board.application.command.ScrollPostsCommand;
 import com.msa.board.application.command.SearchPostsCommand;
 import com.msa.board.application.command.UpdatePostCommand;
+import com.msa.board.application.paging.TotalCounter;
 import com.msa.board.application.port.PostUseCase;
 import com.msa.board.domain.Board;
 import com.msa.board.domain.BoardRepository;
+import com.msa.board.domain.BoardSnapshot;
 import com.msa.board.domain.BoardStatus;
 import com.msa.board.domain.Post;
 import com.msa.board.domain.PostRepository;
 import com.msa.board.domain.PostStatus;
+import com.msa.board.domain.PostSummaryView;
+import com.msa.board.domain.PostView;
 import com.msa.board.domain.ResourceNotFoundException;
 import java.util.Arrays;
 import java.util.List;
@@ -26,27 +31,40 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class PostService implements PostUseCase {
 
+    static final int EXCERPT_LENGTH = 200;
+    static final String POST_TABLE = "posts";
+
     private final BoardRepository boardRepository;
     private final PostRepository postRepository;
+    private final TotalCounter totalCounter;
+    private final BoardLookupCache boardLookupCache;
 
-    public PostService(BoardRepository boardRepository, PostRepository postRepository) {
+    public PostService(BoardRepository boardRepository, PostRepository postRepository, TotalCounter totalCounter,
+                       BoardLookupCache boardLookupCache) {
         this.boardRepository = boardRepository;
         this.postRepository = postRepository;
+        this.totalCounter = totalCounter;
+        this.boardLookupCache = boardLookupCache;
     }
 
     @Override
     public Post createPost(CreatePostCommand command) {
         Board board = loadActiveBoard(command.boardId());
         Post post = new Post(board, command.authorEmail(), command.title(), command.content(), command.status());
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        totalCounter.invalidate(POST_TABLE, board.getId().toString());
+        return saved;
     }
 
     @Override
-    public Post updatePost(UpdatePostCommand command) {
+    public PostView updatePost(UpdatePostCommand command) {
         Post post = findPostInBoard(command.boardId(), command.postId());
         assertUpdatable(command.requesterEmail(), command.isAdmin(), post);
         post.update(command.title(), command.content(), command.status());
-        return post;
+        if (command.status() != null) {
+            totalCounter.invalidate(POST_TABLE, post.getBoardId().toString());
+        }
+        return PostView.of(post);
     }
 
     @Override
@@ -54,57 +72,166 @@ public class PostService implements PostUseCase {
         Post post = findPostInBoard(boardId, postId);
         assertUpdatable(requesterEmail, isAdmin, post);
         post.update(null, null, PostStatus.ARCHIVED);
+        totalCounter.invalidate(POST_TABLE, boardId.toString());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Post getPost(UUID boardId, UUID postId) {
-        Post post = findPostInBoard(boardId, postId);
-        return post;
+    public PostView getPost(UUID boardId, UUID postId) {
+        return postRepository.findViewByIdAndBoardId(postId, boardId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostView> searchPosts(SearchPostsCommand command) {
+        Page<PostView> result = findPostViews(command);
+        // 게시판 존재 여부는 결과가 비었을 때만 확인해 정상 경로의 쿼리를 한 번 줄인다.
+        if (result.isEmpty()) {
+            ensureBoardExists(command.boardId());
+        }
+        return result;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Post> searchPosts(SearchPostsCommand command) {
-        ensureBoardExists(command.boardId());
-        Pageable pageable = PageRequest.of(command.page(), command.size(), Sort.by(Sort.Direction.DESC, "createdAt"));
+    public Page<PostSummaryView> searchPostSummaries(SearchPostsCommand command, boolean includeExcerpt) {
+        Page<PostSummaryView> result = findPostSummaries(command, includeExcerpt ? EXCERPT_LENGTH : 0);
+        if (result.isEmpty()) {
+            ensureBoardExists(command.boardId());
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostCursorPage scrollPosts(ScrollPostsCommand command) {
+        PostCursor after = PostCursor.decode(command.after());
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다.
+        List<PostSummaryView> rows = findSummariesAfter(command, after, command.size() + 1);
+        if (rows.isEmpty()) {
+            ensureBoardExists(command.boardId());
+        }
+        boolean hasNext = rows.size() > command.size();
+        List<PostSummaryView> posts = hasNext ? rows.subList(0, command.size()) : rows;
+        String nextCursor = hasNext ? PostCursor.of(posts.get(posts.size() - 1)).encode() : null;
+        Long total = command.withTotal()
+                ? countPosts(command.boardId(), command.authorEmail(), normalizeStatuses(command.statuses()))
+                : null;
+        return new PostCursorPage(posts, nextCursor, total);
+    }
+
+    private Page<PostView> findPostViews(SearchPostsCommand command) {
+        Pageable pageable = postPageable(command);
         List<PostStatus> statuses = normalizeStatuses(command.statuses());
         boolean hasAuthor = command.authorEmail() != null && !command.authorEmail().isBlank();
-        if (hasAuthor && statuses.size() > 0 && statuses.size() != PostStatus.values().length) {
-            return postRepository.findByBoardIdAndAuthorEmailAndStatusIn(
+        boolean hasStatus = statuses.size() != PostStatus.values().length;
+        List<PostView> content;
+        if (hasAuthor && hasStatus) {
+            content = postRepository.findViewsByBoardIdAndAuthorEmailAndStatusIn(
                     command.boardId(), command.authorEmail(), statuses, pageable);
+        } else if (hasAuthor) {
+            content = postRepository.findViewsByBoardIdAndAuthorEmail(
+                    command.boardId(), command.authorEmail(), pageable);
+        } else if (hasStatus) {
+            content = postRepository.findViewsByBoardIdAndStatusIn(command.boardId(), statuses, pageable);
+        } else {
+            content = postRepository.findViewsByBoardId(command.boardId(), pageable);
+        }
+        return toPage(content, pageable, command, statuses);
+    }
+
+    private Page<PostSummaryView> findPostSummaries(SearchPostsCommand command, int excerptLength) {
+        Pageable pageable = postPageable(command);
+        List<PostStatus> statuses = normalizeStatuses(command.statuses());
+        boolean hasAuthor = command.authorEmail() != null && !command.authorEmail().isBlank();
+        boolean hasStatus = statuses.size() != PostStatus.values().length;
+        List<PostSummaryView> content;
+        if (hasAuthor && hasStatus) {
+            content = postRepository.findSummariesByBoardIdAndAuthorEmailAndStatusIn(
+                    command.boardId(), command.authorEmail(), statuses, excerptLength, pageable);
+        } else if (hasAuthor) {
+            content = postRepository.findSummariesByBoardIdAndAuthorEmail(
+                    command.boardId(), command.authorEmail(), excerptLength, pageable);
+        } else if (hasStatus) {
+            content = postRepository.findSummariesByBoardIdAndStatusIn(
+                    command.boardId(), statuses, excerptLength, pageable);
+        } else {
+            content = postRepository.findSummariesByBoardId(command.boardId(), excerptLength, pageable);
+        }
+        return toPage(content, pageable, command, statuses);
+    }
+
+    // 게시글 목록은 항상 게시판으로 걸러지므로 추정치 대신 게시판별 필터 키로 count를 구하거나 캐시한다.
+    private <T> Page<T> toPage(List<T> content, Pageable pageable, SearchPostsCommand command,
+                               List<PostStatus> statuses) {
+        String filterKey = command.boardId() + "|" + command.authorEmail() + "|"
+                + statuses.stream().map(Enum::name).sorted().toList();
+        return totalCounter.page(content, pageable, POST_TABLE, filterKey,
+                () -> countPosts(command.boardId(), command.authorEmail(), statuses));
+    }
+
+    private List<PostSummaryView> findSummariesAfter(ScrollPostsCommand command, PostCursor after, int limit) {
+        Pageable pageable = PageRequest.ofSize(limit);
+        int excerptLength = command.includeExcerpt() ? EXCERPT_LENGTH : 0;
+        List<PostStatus> statuses = normalizeStatuses(command.statuses());
+        boolean hasAuthor = command.authorEmail() != null && !command.authorEmail().isBlank();
+        boolean hasStatus = statuses.size() != PostStatus.values().length;
+        if (hasAuthor && hasStatus) {
+            return postRepository.findSummariesByAuthorEmailAndStatusInAfter(command.boardId(),
+                    command.authorEmail(), statuses, after.createdAt(), after.id(), excerptLength, pageable);
         }
         if (hasAuthor) {
-            return postRepository.findByBoardIdAndAuthorEmail(command.boardId(), command.authorEmail(), pageable);
+            return postRepository.findSummariesByAuthorEmailAfter(command.boardId(),
+                    command.authorEmail(), after.createdAt(), after.id(), excerptLength, pageable);
         }
-        if (statuses.size() != PostStatus.values().length) {
-            return postRepository.findByBoardIdAndStatusIn(command.boardId(), statuses, pageable);
+        if (hasStatus) {
+            return postRepository.findSummariesByStatusInAfter(command.boardId(),
+                    statuses, after.createdAt(), after.id(), excerptLength, pageable);
         }
-        return postRepository.findByBoardId(command.boardId(), pageable);
+        return postRepository.findSummariesAfter(
+                command.boardId(), after.createdAt(), after.id(), excerptLength, pageable);
+    }
+
+    private long countPosts(UUID boardId, String authorEmail, List<PostStatus> statuses) {
+        boolean hasAuthor = authorEmail != null && !authorEmail.isBlank();
+        boolean hasStatus = statuses.size() != PostStatus.values().length;
+        if (hasAuthor && hasStatus) {
+            return postRepository.countByBoardIdAndAuthorEmailAndStatusIn(boardId, authorEmail, statuses);
+        }
+        if (hasAuthor) {
+            return postRepository.countByBoardIdAndAuthorEmail(boardId, authorEmail);
+        }
+        if (hasStatus) {
+            return postRepository.countByBoardIdAndStatusIn(boardId, statuses);
+        }
+        return postRepository.countByBoardId(boardId);
+    }
+
+    private Pageable postPageable(SearchPostsCommand command) {
+        return PageRequest.of(command.page(), command.size(), Sort.by(Sort.Direction.DESC, "createdAt"));
     }
 
     private void ensureBoardExists(UUID boardId) {
-        if (!boardRepository.existsById(boardId)) {
+        if (boardLookupCache.find(boardId).isEmpty()) {
             throw new ResourceNotFoundException("Board not found");
         }
     }
 
+    // 상태 확인은 캐시로 하고, 게시글의 연관관계에는 select 없는 프록시 참조만 넘긴다.
+    // 캐시 무효화는 인스턴스 로컬이므로 다른 인스턴스에서 비활성화된 게시판은 board.cache.ttl 동안 글을 더 받을 수 있다.
     private Board loadActiveBoard(UUID boardId) {
-        Board board = boardRepository.findById(boardId)
+        BoardSnapshot board = boardLookupCache.find(boardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found"));
-        if (board.getStatus() != BoardStatus.ACTIVE) {
+        if (board.status() != BoardStatus.ACTIVE) {
             throw new IllegalStateException("Board is not active");
         }
-        return board;
+        return boardRepository.getReferenceById(boardId);
     }
 
     private Post findPostInBoard(UUID boardId, UUID postId) {
-        Post post = postRepository.findById(postId)
+        return postRepository.findByIdAndBoardId(postId, boardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
-        if (!post.getBoard().getId().equals(boardId)) {
-            throw new ResourceNotFoundException("Post not found");
-        }
-        return post;
     }
 
     private void assertUpdatable(String requesterEmail, boolean isAdmin, Post post) {
@@ -0,0 +1,15 @@
+package com.msa.board.application.command;
+
+import com.msa.board.domain.PostStatus;
+import java.util.List;
+import java.util.UUID;
+
+public record ScrollPostsCommand(
+        UUID boardId,
+        String authorEmail,
+        List<PostStatus> statuses,
+        String after,
+        int size,
+        boolean withTotal,
+        boolean includeExcerpt) {
+}
@@ -0,0 +1,16 @@
+package com.msa.board.application.paging;
+
+public enum CountMode {
+    /**
+     * 항상 count(*) 실행
+     */
+    EXACT,
+    /**
+     * 필터 없는 목록은 pg_class.reltuples 추정치 사용 (임계값 미만이면 정확한 count)
+     */
+    ESTIMATE,
+    /**
+     * 필터별 count 결과를 짧은 TTL 동안 재사용하고 쓰기 시 무효화
+     */
+    CACHED
+}
@@ -4,6 +4,7 @@ import com.msa.board.application.command.CreateBoardCommand;
 import com.msa.board.application.command.SearchBoardsCommand;
 import com.msa.board.application.command.UpdateBoardCommand;
 import com.msa.board.domain.Board;
+import com.msa.board.domain.BoardSnapshot;
 import org.springframework.data.domain.Page;
 
 public interface BoardUseCase {
@@ -11,7 +12,7 @@ public interface BoardUseCase {
 
     Board updateBoard(UpdateBoardCommand command);
 
-    Board getBoard(java.util.UUID id);
+    BoardSnapshot getBoard(java.util.UUID id);
 
     Page<Board> searchBoards(SearchBoardsCommand command);
 }
@@ -0,0 +1,37 @@
+package com.msa.board.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "board.cache")
+public class BoardCacheProperties {
+
+    /**
+     * 게시판 조회 결과를 재사용하는 시간 (0이면 비활성화).
+     * 무효화는 인스턴스 로컬이라 다른 인스턴스의 상태 변경(비활성화 등)은 최대 이 시간만큼 늦게 반영된다.
+     */
+    private Duration ttl = Duration.ofSeconds(5);
+
+    /**
+     * 캐시 최대 항목 수
+     */
+    private int maxEntries = 1_000;
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
@@ -1,15 +1,20 @@
 package com.msa.board.domain;
 
+import java.util.List;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface BoardRepository extends JpaRepository<Board, UUID> {
 
-    Page<Board> findByNameContainingIgnoreCaseAndVisibilityInAndStatusIn(
+    List<Board> findByNameContainingIgnoreCaseAndVisibilityInAndStatusIn(
             String name, Iterable<BoardVisibility> visibilities, Iterable<BoardStatus> statuses, Pageable pageable);
 
-    Page<Board> findByVisibilityInAndStatusIn(
+    long countByNameContainingIgnoreCaseAndVisibilityInAndStatusIn(
+            String name, Iterable<BoardVisibility> visibilities, Iterable<BoardStatus> statuses);
+
+    List<Board> findByVisibilityInAndStatusIn(
             Iterable<BoardVisibility> visibilities, Iterable<BoardStatus> statuses, Pageable pageable);
+
+    long countByVisibilityInAndStatusIn(Iterable<BoardVisibility> visibilities, Iterable<BoardStatus> statuses);
 }
@@ -0,0 +1,27 @@
+package com.msa.board.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 조회 캐시에 보관하는 게시판의 불변 사본.
+ */
+public record BoardSnapshot(
+        UUID id,
+        String name,
+        BoardVisibility visibility,
+        BoardStatus status,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public static BoardSnapshot of(Board board) {
+        return new BoardSnapshot(
+                board.getId(),
+                board.getName(),
+                board.getVisibility(),
+                board.getStatus(),
+                board.getCreatedAt(),
+                board.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.msa.board.domain;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super("Invalid cursor");
+    }
+}
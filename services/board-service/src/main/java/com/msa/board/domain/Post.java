@@ -24,6 +24,10 @@ public class Post {
     @JoinColumn(name = "board_id", nullable = false)
     private Board board;
 
+    // 게시판 엔티티(프록시)를 건드리지 않고 소속 게시판을 확인하기 위한 읽기 전용 매핑
+    @Column(name = "board_id", insertable = false, updatable = false)
+    private UUID boardId;
+
     @Column(name = "author_email", nullable = false)
     private String authorEmail;
 
@@ -49,6 +53,7 @@ public class Post {
     public Post(Board board, String authorEmail, String title, String content, PostStatus status) {
         this.id = UUID.randomUUID();
         this.board = board;
+        this.boardId = board.getId();
         this.authorEmail = authorEmail;
         this.title = title;
         this.content = content;
@@ -84,6 +89,10 @@ public class Post {
         return board;
     }
 
+    public UUID getBoardId() {
+        return boardId;
+    }
+
     public String getAuthorEmail() {
         return authorEmail;
     }
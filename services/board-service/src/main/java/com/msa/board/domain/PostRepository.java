@@ -1,18 +1,121 @@
 package com.msa.board.domain;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostRepository extends JpaRepository<Post, UUID> {
 
-    Page<Post> findByBoardId(UUID boardId, Pageable pageable);
+    String VIEW_SELECT = "select new com.msa.board.domain.PostView("
+            + "p.id, p.boardId, p.authorEmail, p.title, p.content, p.status, p.createdAt, p.updatedAt) from Post p ";
 
-    Page<Post> findByBoardIdAndStatusIn(UUID boardId, Iterable<PostStatus> statuses, Pageable pageable);
+    // excerptLength가 0이면 CASE가 거짓이라 Postgres가 content(TOAST)를 풀지 않는다.
+    String SUMMARY_SELECT = "select new com.msa.board.domain.PostSummaryView("
+            + "p.id, p.boardId, p.authorEmail, p.title, "
+            + "case when :excerptLength > 0 then substring(p.content, 1, :excerptLength) end, "
+            + "p.status, p.createdAt, p.updatedAt) from Post p ";
 
-    Page<Post> findByBoardIdAndAuthorEmail(UUID boardId, String authorEmail, Pageable pageable);
+    // (created_at, id) 행 값 비교로 (board_id, ..., created_at desc, id desc) 인덱스를 바로 탐색한다.
+    String SEEK = "and (p.createdAt, p.id) < (:createdAt, :id) order by p.createdAt desc, p.id desc";
 
-    Page<Post> findByBoardIdAndAuthorEmailAndStatusIn(
-            UUID boardId, String authorEmail, Iterable<PostStatus> statuses, Pageable pageable);
+    Optional<Post> findByIdAndBoardId(UUID id, UUID boardId);
+
+    @Query(VIEW_SELECT + "where p.id = :id and p.boardId = :boardId")
+    Optional<PostView> findViewByIdAndBoardId(@Param("id") UUID id, @Param("boardId") UUID boardId);
+
+    @Query(VIEW_SELECT + "where p.boardId = :boardId")
+    List<PostView> findViewsByBoardId(@Param("boardId") UUID boardId, Pageable pageable);
+
+    @Query(VIEW_SELECT + "where p.boardId = :boardId and p.status in :statuses")
+    List<PostView> findViewsByBoardIdAndStatusIn(
+            @Param("boardId") UUID boardId, @Param("statuses") Iterable<PostStatus> statuses, Pageable pageable);
+
+    @Query(VIEW_SELECT + "where p.boardId = :boardId and p.authorEmail = :authorEmail")
+    List<PostView> findViewsByBoardIdAndAuthorEmail(
+            @Param("boardId") UUID boardId, @Param("authorEmail") String authorEmail, Pageable pageable);
+
+    @Query(VIEW_SELECT + "where p.boardId = :boardId and p.authorEmail = :authorEmail "
+            + "and p.status in :statuses")
+    List<PostView> findViewsByBoardIdAndAuthorEmailAndStatusIn(
+            @Param("boardId") UUID boardId,
+            @Param("authorEmail") String authorEmail,
+            @Param("statuses") Iterable<PostStatus> statuses,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.boardId = :boardId")
+    List<PostSummaryView> findSummariesByBoardId(
+            @Param("boardId") UUID boardId, @Param("excerptLength") int excerptLength, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.boardId = :boardId and p.status in :statuses")
+    List<PostSummaryView> findSummariesByBoardIdAndStatusIn(
+            @Param("boardId") UUID boardId,
+            @Param("statuses") Iterable<PostStatus> statuses,
+            @Param("excerptLength") int excerptLength,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.boardId = :boardId and p.authorEmail = :authorEmail")
+    List<PostSummaryView> findSummariesByBoardIdAndAuthorEmail(
+            @Param("boardId") UUID boardId,
+            @Param("authorEmail") String authorEmail,
+            @Param("excerptLength") int excerptLength,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.boardId = :boardId and p.authorEmail = :authorEmail "
+            + "and p.status in :statuses")
+    List<PostSummaryView> findSummariesByBoardIdAndAuthorEmailAndStatusIn(
+            @Param("boardId") UUID boardId,
+            @Param("authorEmail") String authorEmail,
+            @Param("statuses") Iterable<PostStatus> statuses,
+            @Param("excerptLength") int excerptLength,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.boardId = :boardId " + SEEK)
+    List<PostSummaryView> findSummariesAfter(
+            @Param("boardId") UUID boardId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("excerptLength") int excerptLength,
+            Pageable limit);
+
+    @Query(SUMMARY_SELECT + "where p.boardId = :boardId and p.status in :statuses " + SEEK)
+    List<PostSummaryView> findSummariesByStatusInAfter(
+            @Param("boardId") UUID boardId,
+            @Param("statuses") Iterable<PostStatus> statuses,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("excerptLength") int excerptLength,
+            Pageable limit);
+
+    @Query(SUMMARY_SELECT + "where p.boardId = :boardId and p.authorEmail = :authorEmail " + SEEK)
+    List<PostSummaryView> findSummariesByAuthorEmailAfter(
+            @Param("boardId") UUID boardId,
+            @Param("authorEmail") String authorEmail,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("excerptLength") int excerptLength,
+            Pageable limit);
+
+    @Query(SUMMARY_SELECT + "where p.boardId = :boardId and p.authorEmail = :authorEmail "
+            + "and p.status in :statuses " + SEEK)
+    List<PostSummaryView> findSummariesByAuthorEmailAndStatusInAfter(
+            @Param("boardId") UUID boardId,
+            @Param("authorEmail") String authorEmail,
+            @Param("statuses") Iterable<PostStatus> statuses,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("excerptLength") int excerptLength,
+            Pageable limit);
+
+    long countByBoardId(UUID boardId);
+
+    long countByBoardIdAndStatusIn(UUID boardId, Iterable<PostStatus> statuses);
+
+    long countByBoardIdAndAuthorEmail(UUID boardId, String authorEmail);
+
+    long countByBoardIdAndAuthorEmailAndStatusIn(UUID boardId, String authorEmail, Iterable<PostStatus> statuses);
 }
@@ -0,0 +1,19 @@
+package com.msa.board.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 목록용 게시글 프로젝션. content 컬럼은 읽지 않고, 요청 시 DB에서 자른 앞부분(excerpt)만 담는다.
+ */
+public record PostSummaryView(
+        UUID id,
+        UUID boardId,
+        String authorEmail,
+        String title,
+        String excerpt,
+        PostStatus status,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
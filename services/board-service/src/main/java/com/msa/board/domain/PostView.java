@@ -0,0 +1,31 @@
+package com.msa.board.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 게시글 조회용 프로젝션. board_id 컬럼을 직접 읽으므로 Board 엔티티를 로딩하지 않는다.
+ */
+public record PostView(
+        UUID id,
+        UUID boardId,
+        String authorEmail,
+        String title,
+        String content,
+        PostStatus status,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public static PostView of(Post post) {
+        return new PostView(
+                post.getId(),
+                post.getBoardId(),
+                post.getAuthorEmail(),
+                post.getTitle(),
+                post.getContent(),
+                post.getStatus(),
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+}
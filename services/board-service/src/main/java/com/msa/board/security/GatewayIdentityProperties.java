@@ -0,0 +1,48 @@
+package com.msa.board.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.identity")
+public class GatewayIdentityProperties {
+
+    /**
+     * 게이트웨이가 서명한 신원 헤더를 신뢰해 JWT 파싱을 건너뛸지 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 신원 헤더 서명 키. 검증을 켜면 필수이며 jwt.secret과 달라야 한다
+     */
+    private String secret;
+
+    /**
+     * 서명 시각과 현재 시각의 허용 오차(초)
+     */
+    private long maxSkewSeconds = 30;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public long getMaxSkewSeconds() {
+        return maxSkewSeconds;
+    }
+
+    public void setMaxSkewSeconds(long maxSkewSeconds) {
+        this.maxSkewSeconds = maxSkewSeconds;
+    }
+}
@@ -0,0 +1,116 @@
+package com.msa.board.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GatewayIdentityVerifier {
+
+    public static final String EMAIL_HEADER = "X-Auth-Email";
+    public static final String ROLE_HEADER = "X-Auth-Role";
+    public static final String SIGNATURE_HEADER = "X-Auth-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 16;
+
+    private final SecretKeySpec key;
+    private final Mac prototype;
+    private final long maxSkewSeconds;
+    private final Clock clock;
+
+    @Autowired
+    public GatewayIdentityVerifier(GatewayIdentityProperties properties, JwtProperties jwtProperties) {
+        this(properties.isEnabled() ? requireSecret(properties.getSecret(), jwtProperties.getSecret()) : null,
+                properties.getMaxSkewSeconds(),
+                Clock.systemUTC());
+    }
+
+    public GatewayIdentityVerifier(String secret, long maxSkewSeconds, Clock clock) {
+        this.key = secret != null ? new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM) : null;
+        this.prototype = key != null ? createMac(key) : null;
+        this.maxSkewSeconds = maxSkewSeconds;
+        this.clock = clock;
+    }
+
+    /**
+     * 게이트웨이 서명({@code <epochSeconds>.<base64url MAC>})이 유효하면 헤더의 신원을 반환한다.
+     * 헤더가 없거나 서명이 맞지 않으면 null을 반환해 JWT 검증으로 넘어가게 한다.
+     */
+    public GatewayIdentity verify(HttpServletRequest request) {
+        if (prototype == null) {
+            return null;
+        }
+        String signature = request.getHeader(SIGNATURE_HEADER);
+        String email = request.getHeader(EMAIL_HEADER);
+        String role = request.getHeader(ROLE_HEADER);
+        if (signature == null || email == null || email.isBlank() || role == null || role.isBlank()) {
+            return null;
+        }
+        int separator = signature.indexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        long timestamp;
+        byte[] provided;
+        try {
+            timestamp = Long.parseLong(signature, 0, separator, 10);
+            provided = Base64.getUrlDecoder().decode(signature.substring(separator + 1));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        if (Math.abs(clock.millis() / 1000 - timestamp) > maxSkewSeconds) {
+            return null;
+        }
+        // 게이트웨이는 원래 요청의 메서드와 경로까지 서명하므로 다른 요청에 재사용된 헤더는 맞지 않는다.
+        byte[] digest = newMac().doFinal(String.join("\n", email, role, request.getMethod(), request.getRequestURI(),
+                Long.toString(timestamp)).getBytes(StandardCharsets.UTF_8));
+        if (!MessageDigest.isEqual(Arrays.copyOf(digest, SIGNATURE_BYTES), provided)) {
+            return null;
+        }
+        return new GatewayIdentity(email, role);
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            return createMac(key);
+        }
+    }
+
+    private static Mac createMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * 신원 서명 키가 JWT 키와 같으면 한쪽이 새어도 둘 다 위조할 수 있으므로 전용 키가 없으면 기동을 막는다.
+     */
+    private static String requireSecret(String identitySecret, String jwtSecret) {
+        if (identitySecret == null || identitySecret.isBlank()) {
+            throw new IllegalStateException(
+                    "gateway.identity.secret must be set when gateway identity verification is enabled.");
+        }
+        if (identitySecret.equals(jwtSecret)) {
+            throw new IllegalStateException("gateway.identity.secret must differ from jwt.secret.");
+        }
+        return identitySecret;
+    }
+
+    public record GatewayIdentity(String email, String role) {
+    }
+}
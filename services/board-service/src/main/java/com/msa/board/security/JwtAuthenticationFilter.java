@@ -19,14 +19,29 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider) {
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, GatewayIdentityVerifier gatewayIdentityVerifier) {
         this.jwtProvider = jwtProvider;
+        this.gatewayIdentityVerifier = gatewayIdentityVerifier;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            // 게이트웨이가 이미 검증한 요청은 서명된 신원 헤더만 확인하고, 직접 호출은 JWT로 검증한다.
+            GatewayIdentityVerifier.GatewayIdentity identity = gatewayIdentityVerifier.verify(request);
+            if (identity != null) {
+                authenticate(identity.email(), identity.role());
+            } else {
+                authenticateBearer(request);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticateBearer(HttpServletRequest request) {
         String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
@@ -34,21 +49,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 Claims claims = jwtProvider.parseClaims(token);
                 String email = claims.getSubject();
                 String role = claims.get("role", String.class);
-                if (email != null && role != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    User.withUsername(email).password("N/A")
-                                            .authorities(new SimpleGrantedAuthority("ROLE_" + role))
-                                            .build(),
-                                    null,
-                                    List.of(new SimpleGrantedAuthority("ROLE_" + role))
-                            );
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (email != null && role != null) {
+                    authenticate(email, role);
                 }
             } catch (Exception ignored) {
                 // invalid token -> skip auth
             }
         }
-        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String email, String role) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        User.withUsername(email).password("N/A")
+                                .authorities(new SimpleGrantedAuthority("ROLE_" + role))
+                                .build(),
+                        null,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                );
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
@@ -1,12 +1,16 @@
 package com.msa.board.web;
 
+import com.msa.board.application.PostCursorPage;
+import com.msa.board.application.command.ScrollPostsCommand;
 import com.msa.board.application.command.SearchPostsCommand;
 import com.msa.board.application.port.PostUseCase;
 import com.msa.board.domain.PostStatus;
 import com.msa.board.web.request.CreatePostRequest;
 import com.msa.board.web.request.UpdatePostRequest;
+import com.msa.board.web.response.CursorPageResponse;
 import com.msa.board.web.response.PageResponse;
 import com.msa.board.web.response.PostResponse;
+import com.msa.board.web.response.PostSummaryResponse;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
@@ -55,6 +59,48 @@ public class PostController {
         return PageResponse.from(result);
     }
 
+    /**
+     * 목록 화면용 요약 조회. content를 읽지 않으며 {@code excerpt=true}면 앞부분만 DB에서 잘라 내려준다.
+     */
+    @GetMapping(params = {"view=summary", "!after"})
+    public PageResponse<PostSummaryResponse> listPostSummaries(
+            @PathVariable UUID boardId,
+            @RequestParam(name = "status", required = false) List<String> statuses,
+            @RequestParam(name = "author", required = false) String author,
+            @RequestParam(defaultValue = "false") boolean excerpt,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        List<PostStatus> statusEnums = toPostStatuses(statuses);
+        Page<PostSummaryResponse> result = postUseCase.searchPostSummaries(
+                        new SearchPostsCommand(boardId, author, statusEnums, page, size), excerpt)
+                .map(PostSummaryResponse::from);
+        return PageResponse.from(result);
+    }
+
+    /**
+     * 커서 모드: {@code ?after=<cursor>&size=}. 첫 페이지는 {@code after}를 비워 요청하며 항목은 요약 형태다.
+     * {@code withTotal=false}면 전체 건수 count 쿼리를 생략한다.
+     */
+    @GetMapping(params = "after")
+    public CursorPageResponse<PostSummaryResponse> scrollPosts(
+            @PathVariable UUID boardId,
+            @RequestParam(name = "status", required = false) List<String> statuses,
+            @RequestParam(name = "author", required = false) String author,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "false") boolean excerpt,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "10") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        PostCursorPage result = postUseCase.scrollPosts(new ScrollPostsCommand(
+                boardId, author, toPostStatuses(statuses), after, pageSize, withTotal, excerpt));
+        return new CursorPageResponse<>(
+                result.posts().stream().map(PostSummaryResponse::from).toList(),
+                pageSize,
+                result.nextCursor(),
+                result.totalElements()
+        );
+    }
+
     @GetMapping("/{postId}")
     public PostResponse getPost(@PathVariable UUID boardId, @PathVariable UUID postId) {
         return PostResponse.from(postUseCase.getPost(boardId, postId));
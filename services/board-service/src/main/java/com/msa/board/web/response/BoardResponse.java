@@ -1,6 +1,7 @@
 package com.msa.board.web.response;
 
 import com.msa.board.domain.Board;
+import com.msa.board.domain.BoardSnapshot;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -22,4 +23,15 @@ public record BoardResponse(
                 board.getUpdatedAt()
         );
     }
+
+    public static BoardResponse from(BoardSnapshot board) {
+        return new BoardResponse(
+                board.id(),
+                board.name(),
+                board.visibility().name(),
+                board.status().name(),
+                board.createdAt(),
+                board.updatedAt()
+        );
+    }
 }
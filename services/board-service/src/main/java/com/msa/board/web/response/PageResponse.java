@@ -1,5 +1,6 @@
 package com.msa.board.web.response;
 
+import com.msa.board.application.paging.CountedPage;
 import java.util.List;
 import org.springframework.data.domain.Page;
 
@@ -8,7 +9,8 @@ public record PageResponse<T>(
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        boolean totalExact
 ) {
     public static <T> PageResponse<T> from(Page<T> page) {
         return new PageResponse<>(
@@ -16,7 +18,8 @@ public record PageResponse<T>(
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                CountedPage.isTotalExact(page)
         );
     }
 }
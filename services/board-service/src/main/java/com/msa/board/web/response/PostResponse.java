@@ -1,6 +1,7 @@
 package com.msa.board.web.response;
 
 import com.msa.board.domain.Post;
+import com.msa.board.domain.PostView;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -15,15 +16,19 @@ public record PostResponse(
         Instant updatedAt
 ) {
     public static PostResponse from(Post post) {
+        return from(PostView.of(post));
+    }
+
+    public static PostResponse from(PostView post) {
         return new PostResponse(
-                post.getId(),
-                post.getBoard().getId(),
-                post.getAuthorEmail(),
-                post.getTitle(),
-                post.getContent(),
-                post.getStatus().name(),
-                post.getCreatedAt(),
-                post.getUpdatedAt()
+                post.id(),
+                post.boardId(),
+                post.authorEmail(),
+                post.title(),
+                post.content(),
+                post.status().name(),
+                post.createdAt(),
+                post.updatedAt()
         );
     }
 }
@@ -0,0 +1,29 @@
+package com.msa.board.web.response;
+
+import com.msa.board.domain.PostSummaryView;
+import java.time.Instant;
+import java.util.UUID;
+
+public record PostSummaryResponse(
+        UUID id,
+        UUID boardId,
+        String authorEmail,
+        String title,
+        String excerpt,
+        String status,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public static PostSummaryResponse from(PostSummaryView post) {
+        return new PostSummaryResponse(
+                post.id(),
+                post.boardId(),
+                post.authorEmail(),
+                post.title(),
+                post.excerpt(),
+                post.status().name(),
+                post.createdAt(),
+                post.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+-- 게시글 목록 키셋 페이지네이션((board_id, created_at, id) 내림차순 탐색)용 인덱스
+CREATE INDEX IF NOT EXISTS idx_posts_board_created_id
+    ON ${post_table}(board_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_posts_board_status_created_id
+    ON ${post_table}(board_id, status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_posts_board_author_created_id
+    ON ${post_table}(board_id, author_email, created_at DESC, id DESC);
+
+-- 위 인덱스의 앞부분과 겹치므로 제거해 쓰기 비용을 줄인다.
+DROP INDEX IF EXISTS idx_posts_board;
+DROP INDEX IF EXISTS idx_posts_board_status;
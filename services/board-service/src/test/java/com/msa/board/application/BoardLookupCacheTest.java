@@ -0,0 +1,92 @@
+package com.msa.board.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.msa.board.domain.Board;
+import com.msa.board.domain.BoardRepository;
+import com.msa.board.domain.BoardSnapshot;
+import com.msa.board.domain.BoardStatus;
+import com.msa.board.domain.BoardVisibility;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BoardLookupCacheTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoardLookupCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new BoardLookupCache(boardRepository, Duration.ofSeconds(60), 2, clock, meterRegistry);
+    }
+
+    @Test
+    void find_serves_repeated_lookups_from_cache() {
+        Board board = new Board("QnA", BoardVisibility.PUBLIC);
+        given(boardRepository.findById(board.getId())).willReturn(Optional.of(board));
+
+        cache.find(board.getId());
+        Optional<BoardSnapshot> cached = cache.find(board.getId());
+
+        assertThat(cached).get().extracting(BoardSnapshot::name).isEqualTo("QnA");
+        verify(boardRepository, times(1)).findById(board.getId());
+        assertThat(meterRegistry.get("board.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void find_reloads_after_evict() {
+        Board board = new Board("QnA", BoardVisibility.PUBLIC);
+        given(boardRepository.findById(board.getId())).willReturn(Optional.of(board));
+        cache.find(board.getId());
+
+        board.update(null, null, BoardStatus.INACTIVE);
+        cache.evict(board.getId());
+        Optional<BoardSnapshot> reloaded = cache.find(board.getId());
+
+        assertThat(reloaded).get().extracting(BoardSnapshot::status).isEqualTo(BoardStatus.INACTIVE);
+        verify(boardRepository, times(2)).findById(board.getId());
+    }
+
+    @Test
+    void find_does_not_cache_missing_board() {
+        UUID missing = UUID.randomUUID();
+        given(boardRepository.findById(missing)).willReturn(Optional.empty());
+
+        assertThat(cache.find(missing)).isEmpty();
+        assertThat(cache.find(missing)).isEmpty();
+
+        verify(boardRepository, times(2)).findById(missing);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void find_keeps_cache_within_max_entries() {
+        for (int i = 0; i < 3; i++) {
+            Board board = new Board("Board" + i, BoardVisibility.PUBLIC);
+            given(boardRepository.findById(board.getId())).willReturn(Optional.of(board));
+            cache.find(board.getId());
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+    }
+}
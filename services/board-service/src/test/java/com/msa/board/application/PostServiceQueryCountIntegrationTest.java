@@ -0,0 +1,155 @@
+package com.msa.board.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.msa.board.application.command.CreatePostCommand;
+import com.msa.board.application.command.SearchPostsCommand;
+import com.msa.board.application.command.UpdatePostCommand;
+import com.msa.board.application.port.PostUseCase;
+import com.msa.board.domain.Board;
+import com.msa.board.domain.BoardRepository;
+import com.msa.board.domain.BoardVisibility;
+import com.msa.board.domain.Post;
+import com.msa.board.domain.PostRepository;
+import com.msa.board.domain.PostStatus;
+import com.msa.board.domain.PostView;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@EnabledIf(expression = "#{T(com.msa.board.application.PostServiceQueryCountIntegrationTest).dockerAvailable()}",
+        loadContext = false)
+class PostServiceQueryCountIntegrationTest {
+
+    private static PostgreSQLContainer<?> postgres;
+
+    public static boolean dockerAvailable() {
+        try {
+            DockerClientFactory.instance().client();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"))
+                .withDatabaseName("msa")
+                .withUsername("msa")
+                .withPassword("msa-password");
+        postgres.start();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("gateway.identity.secret", () -> "gateway-identity-test-secret-32bytes!");
+    }
+
+    @Autowired
+    private PostUseCase postUseCase;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Board board;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        boardRepository.deleteAll();
+        board = boardRepository.save(new Board("Board", BoardVisibility.PUBLIC));
+        post = postRepository.save(new Post(board, "author@example.com", "t1", "c1", PostStatus.PUBLISHED));
+        postRepository.save(new Post(board, "author@example.com", "t2", "c2", PostStatus.PUBLISHED));
+        postRepository.save(new Post(board, "other@example.com", "t3", "c3", PostStatus.DRAFT));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (postgres != null && postgres.isRunning()) {
+            postgres.stop();
+        }
+    }
+
+    @Test
+    void searchPosts_runs_page_query_and_count_only() {
+        Page<PostView> page = postUseCase.searchPosts(new SearchPostsCommand(board.getId(), null, null, 0, 2));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertBoardNotLoaded();
+    }
+
+    @Test
+    void searchPosts_skips_count_when_first_page_is_not_full() {
+        Page<PostView> page = postUseCase.searchPosts(new SearchPostsCommand(
+                board.getId(), "author@example.com", List.of(PostStatus.PUBLISHED), 0, 10));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertBoardNotLoaded();
+    }
+
+    @Test
+    void getPost_runs_single_query() {
+        PostView view = postUseCase.getPost(board.getId(), post.getId());
+
+        assertThat(view.boardId()).isEqualTo(board.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertBoardNotLoaded();
+    }
+
+    @Test
+    void updatePost_runs_one_select_and_one_update() {
+        PostView view = postUseCase.updatePost(new UpdatePostCommand(
+                board.getId(), post.getId(), "updated", null, null, "author@example.com", false));
+
+        assertThat(view.title()).isEqualTo("updated");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertBoardNotLoaded();
+    }
+
+    @Test
+    void createPost_checks_board_status_from_cache() {
+        postUseCase.createPost(new CreatePostCommand(board.getId(), "warm", "c", PostStatus.DRAFT, "author@example.com"));
+        statistics.clear();
+
+        postUseCase.createPost(new CreatePostCommand(board.getId(), "t4", "c4", PostStatus.DRAFT, "author@example.com"));
+
+        assertThat(postRepository.count()).isEqualTo(5);
+        assertBoardNotLoaded();
+    }
+
+    private void assertBoardNotLoaded() {
+        assertThat(statistics.getEntityStatistics(Board.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Board.class.getName()).getFetchCount()).isZero();
+    }
+}
@@ -0,0 +1,237 @@
+package com.msa.board.application.paging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.msa.board.config.PagingProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TotalCounterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    };
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PagingProperties properties;
+    private TotalCounter totalCounter;
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        properties = new PagingProperties();
+        properties.setEstimateThreshold(1_000);
+        properties.setCacheTtl(Duration.ofSeconds(5));
+        totalCounter = new TotalCounter(properties, jdbcTemplate, clock);
+    }
+
+    @Test
+    void exact_mode_counts_every_time() {
+        properties.setMode(CountMode.EXACT);
+
+        TotalCounter.Total first = totalCounter.count("posts", null, counting(42));
+        TotalCounter.Total second = totalCounter.count("posts", null, counting(42));
+
+        assertThat(first).isEqualTo(new TotalCounter.Total(42, true));
+        assertThat(second).isEqualTo(new TotalCounter.Total(42, true));
+        assertThat(counts).hasValue(2);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void page_skips_count_when_content_fixes_the_total() {
+        properties.setMode(CountMode.EXACT);
+
+        Page<String> firstPage = totalCounter.page(List.of("a", "b"), PageRequest.of(0, 10), "posts", null,
+                counting(99));
+        Page<String> lastPage = totalCounter.page(List.of("a"), PageRequest.of(2, 10), "posts", null,
+                counting(99));
+
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(lastPage.getTotalElements()).isEqualTo(21);
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    void page_counts_when_page_is_full_or_past_the_end() {
+        properties.setMode(CountMode.EXACT);
+
+        Page<String> fullPage = totalCounter.page(List.of("a", "b"), PageRequest.of(0, 2), "posts", null,
+                counting(7));
+        Page<String> pastEnd = totalCounter.page(List.of(), PageRequest.of(5, 2), "posts", null, counting(7));
+
+        assertThat(fullPage.getTotalElements()).isEqualTo(7);
+        assertThat(pastEnd.getTotalElements()).isEqualTo(7);
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    void estimate_mode_uses_reltuples_above_threshold() {
+        properties.setMode(CountMode.ESTIMATE);
+        givenReltuples(50_000L);
+
+        TotalCounter.Total total = totalCounter.count("posts", null, counting(49_321));
+
+        assertThat(total).isEqualTo(new TotalCounter.Total(50_000, false));
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    void estimate_mode_counts_exactly_below_threshold() {
+        properties.setMode(CountMode.ESTIMATE);
+        givenReltuples(999L);
+
+        TotalCounter.Total total = totalCounter.count("posts", null, counting(1_002));
+
+        assertThat(total).isEqualTo(new TotalCounter.Total(1_002, true));
+    }
+
+    @Test
+    void estimate_mode_counts_exactly_when_table_was_never_analyzed() {
+        properties.setMode(CountMode.ESTIMATE);
+        givenReltuples(-1L);
+
+        TotalCounter.Total total = totalCounter.count("posts", null, counting(3));
+
+        assertThat(total).isEqualTo(new TotalCounter.Total(3, true));
+    }
+
+    @Test
+    void estimate_mode_reads_reltuples_once_per_ttl() {
+        properties.setMode(CountMode.ESTIMATE);
+        properties.setEstimateTtl(Duration.ofMinutes(1));
+        givenReltuples(10L);
+
+        totalCounter.count("posts", null, counting(10));
+        totalCounter.count("posts", null, counting(11));
+        now.addAndGet(60_000);
+        totalCounter.count("posts", null, counting(12));
+
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class), eq("posts"));
+        assertThat(counts).hasValue(3);
+    }
+
+    @Test
+    void estimate_mode_counts_exactly_for_filtered_lists() {
+        properties.setMode(CountMode.ESTIMATE);
+
+        TotalCounter.Total total = totalCounter.count("posts", "board-1", counting(12));
+
+        assertThat(total).isEqualTo(new TotalCounter.Total(12, true));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void cached_mode_reuses_count_until_ttl_expires() {
+        properties.setMode(CountMode.CACHED);
+
+        TotalCounter.Total first = totalCounter.count("posts", "board-1", counting(10));
+        now.addAndGet(4_999);
+        TotalCounter.Total cached = totalCounter.count("posts", "board-1", counting(11));
+        now.addAndGet(1);
+        TotalCounter.Total expired = totalCounter.count("posts", "board-1", counting(12));
+
+        assertThat(first).isEqualTo(new TotalCounter.Total(10, true));
+        assertThat(cached).isEqualTo(new TotalCounter.Total(10, false));
+        assertThat(expired).isEqualTo(new TotalCounter.Total(12, true));
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    void invalidate_evicts_only_keys_under_the_prefix() {
+        properties.setMode(CountMode.CACHED);
+        totalCounter.count("posts", "board-1|PUBLISHED", counting(1));
+        totalCounter.count("posts", "board-2|PUBLISHED", counting(2));
+        totalCounter.count("boards", null, counting(3));
+
+        totalCounter.invalidate("posts", "board-1");
+
+        assertThat(totalCounter.count("posts", "board-1|PUBLISHED", counting(10)).exact()).isTrue();
+        assertThat(totalCounter.count("posts", "board-2|PUBLISHED", counting(20)).exact()).isFalse();
+        assertThat(totalCounter.count("boards", null, counting(30)).exact()).isFalse();
+    }
+
+    @Test
+    void invalidate_evicts_again_after_transaction_completes() {
+        properties.setMode(CountMode.CACHED);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            totalCounter.invalidate("posts", "board-1");
+            // 커밋 전에 다른 요청이 이전 건수를 다시 캐시한 상황
+            totalCounter.count("posts", "board-1", counting(5));
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(totalCounter.count("posts", "board-1", counting(6))).isEqualTo(new TotalCounter.Total(6, true));
+    }
+
+    @Test
+    void cached_mode_does_not_store_count_that_raced_an_invalidation() {
+        properties.setMode(CountMode.CACHED);
+
+        TotalCounter.Total raced = totalCounter.count("posts", "board-1", () -> {
+            // count가 끝나기 전에 쓰기가 커밋되고 무효화된 상황
+            totalCounter.invalidate("posts", "board-1");
+            return 5;
+        });
+
+        assertThat(raced).isEqualTo(new TotalCounter.Total(5, true));
+        assertThat(totalCounter.count("posts", "board-1", counting(6))).isEqualTo(new TotalCounter.Total(6, true));
+    }
+
+    private LongSupplier counting(long value) {
+        return () -> {
+            counts.incrementAndGet();
+            return value;
+        };
+    }
+
+    private void givenReltuples(Long value) {
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("posts"))).willReturn(value);
+    }
+}
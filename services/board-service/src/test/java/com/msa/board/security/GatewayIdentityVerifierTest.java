@@ -0,0 +1,101 @@
+package com.msa.board.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class GatewayIdentityVerifierTest {
+
+    private static final String SECRET = "change-me-please-change-me-32bytes";
+    private static final long NOW = 1_700_000_000L;
+
+    private final GatewayIdentityVerifier verifier = new GatewayIdentityVerifier(
+            SECRET, 30, Clock.fixed(Instant.ofEpochSecond(NOW), ZoneOffset.UTC));
+
+    @Test
+    void shouldAcceptGatewaySignedIdentity() throws Exception {
+        MockHttpServletRequest request = request("admin@example.com", "ADMIN", sign("admin@example.com", "ADMIN", NOW));
+
+        GatewayIdentityVerifier.GatewayIdentity identity = verifier.verify(request);
+
+        assertThat(identity).isNotNull();
+        assertThat(identity.email()).isEqualTo("admin@example.com");
+        assertThat(identity.role()).isEqualTo("ADMIN");
+    }
+
+    @Test
+    void shouldRejectTamperedRole() throws Exception {
+        MockHttpServletRequest request = request("user@example.com", "ADMIN", sign("user@example.com", "USER", NOW));
+
+        assertThat(verifier.verify(request)).isNull();
+    }
+
+    @Test
+    void shouldRejectExpiredSignature() throws Exception {
+        MockHttpServletRequest request =
+                request("admin@example.com", "ADMIN", sign("admin@example.com", "ADMIN", NOW - 31));
+
+        assertThat(verifier.verify(request)).isNull();
+    }
+
+    @Test
+    void shouldRejectSignatureReplayedOnAnotherRequest() throws Exception {
+        MockHttpServletRequest request = request("admin@example.com", "ADMIN",
+                sign("admin@example.com", "ADMIN", "DELETE", "/api/v1/boards/1", NOW));
+
+        assertThat(verifier.verify(request)).isNull();
+    }
+
+    @Test
+    void shouldIgnoreHeadersWhenDisabled() throws Exception {
+        GatewayIdentityVerifier disabled = new GatewayIdentityVerifier(null, 30, Clock.systemUTC());
+        MockHttpServletRequest request = request("admin@example.com", "ADMIN", sign("admin@example.com", "ADMIN", NOW));
+
+        assertThat(disabled.verify(request)).isNull();
+    }
+
+    @Test
+    void shouldFailWithoutDedicatedSecret() {
+        GatewayIdentityProperties properties = new GatewayIdentityProperties();
+        properties.setEnabled(true);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+
+        assertThatThrownBy(() -> new GatewayIdentityVerifier(properties, jwtProperties))
+                .isInstanceOf(IllegalStateException.class);
+
+        properties.setSecret(SECRET);
+        assertThatThrownBy(() -> new GatewayIdentityVerifier(properties, jwtProperties))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private MockHttpServletRequest request(String email, String role, String signature) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/boards");
+        request.addHeader(GatewayIdentityVerifier.EMAIL_HEADER, email);
+        request.addHeader(GatewayIdentityVerifier.ROLE_HEADER, role);
+        request.addHeader(GatewayIdentityVerifier.SIGNATURE_HEADER, signature);
+        return request;
+    }
+
+    private String sign(String email, String role, long timestamp) throws Exception {
+        return sign(email, role, "GET", "/api/v1/boards", timestamp);
+    }
+
+    private String sign(String email, String role, String method, String path, long timestamp) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] digest = mac.doFinal(String.join("\n", email, role, method, path, Long.toString(timestamp))
+                .getBytes(StandardCharsets.UTF_8));
+        return timestamp + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+    }
+}
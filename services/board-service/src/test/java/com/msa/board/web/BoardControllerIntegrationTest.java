@@ -60,6 +60,7 @@ class BoardControllerIntegrationTest {
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("jwt.secret", () -> TEST_SECRET);
+        registry.add("gateway.identity.secret", () -> "gateway-identity-test-secret-32bytes!");
     }
 
     @Autowired
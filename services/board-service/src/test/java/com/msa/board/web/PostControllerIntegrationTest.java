@@ -62,6 +62,7 @@ class PostControllerIntegrationTest {
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("jwt.secret", () -> TEST_SECRET);
+        registry.add("gateway.identity.secret", () -> "gateway-identity-test-secret-32bytes!");
     }
 
     @Autowired
@@ -169,6 +170,68 @@ class PostControllerIntegrationTest {
         assertThat(content.get(0).get("status")).isEqualTo("PUBLISHED");
     }
 
+    @Test
+    void list_post_summaries_omit_content_and_return_excerpt() {
+        Board board = boardRepository.save(new Board("Board", BoardVisibility.PUBLIC));
+        postRepository.save(new Post(board, "author@example.com", "long", "a".repeat(300), PostStatus.PUBLISHED));
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                baseUrl() + "/api/v1/boards/" + board.getId() + "/posts?view=summary&excerpt=true",
+                HttpMethod.GET,
+                new HttpEntity<>(authHeader(userToken("reader@example.com"))),
+                Map.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        var content = (java.util.List<Map<String, Object>>) response.getBody().get("content");
+        assertThat(content).hasSize(1);
+        assertThat(content.get(0)).doesNotContainKey("content");
+        assertThat((String) content.get(0).get("excerpt")).hasSize(200);
+    }
+
+    @Test
+    void list_posts_with_cursor_walks_all_pages() {
+        Board board = boardRepository.save(new Board("Board", BoardVisibility.PUBLIC));
+        for (int i = 0; i < 5; i++) {
+            postRepository.save(new Post(board, "author@example.com", "p" + i, "c" + i, PostStatus.PUBLISHED));
+        }
+
+        java.util.Set<Object> seen = new java.util.HashSet<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            ResponseEntity<Map> response = restTemplate.exchange(
+                    baseUrl() + "/api/v1/boards/" + board.getId() + "/posts?size=2&withTotal=false&after=" + cursor,
+                    HttpMethod.GET,
+                    new HttpEntity<>(authHeader(userToken("reader@example.com"))),
+                    Map.class
+            );
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().get("totalElements")).isNull();
+            var content = (java.util.List<Map<String, Object>>) response.getBody().get("content");
+            content.forEach(item -> seen.add(item.get("id")));
+            cursor = (String) response.getBody().get("nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(5);
+    }
+
+    @Test
+    void list_posts_with_malformed_cursor_returns_400() {
+        Board board = boardRepository.save(new Board("Board", BoardVisibility.PUBLIC));
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                baseUrl() + "/api/v1/boards/" + board.getId() + "/posts?after=not-a-cursor",
+                HttpMethod.GET,
+                new HttpEntity<>(authHeader(userToken("reader@example.com"))),
+                Map.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     private String baseUrl() {
         return "http://localhost:" + port;
     }
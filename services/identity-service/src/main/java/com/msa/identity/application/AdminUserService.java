@@ -3,6 +3,7 @@ package com.msa.identity.application;
 import com.msa.identity.domain.User;
 import com.msa.identity.domain.UserRepository;
 import com.msa.identity.domain.UserStatus;
+import com.msa.identity.security.UserPrincipalCache;
 import java.util.Locale;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,9 +12,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminUserService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache principalCache;
 
-    public AdminUserService(UserRepository userRepository) {
+    public AdminUserService(UserRepository userRepository, UserPrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Transactional
@@ -22,6 +25,7 @@ public class AdminUserService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
         UserStatus nextStatus = UserStatus.valueOf(status.toUpperCase(Locale.ROOT));
         user.setStatus(nextStatus);
+        principalCache.evict(user.getEmail());
         return user;
     }
 }
@@ -6,39 +6,80 @@ import com.msa.identity.domain.User;
 import com.msa.identity.domain.UserRepository;
 import com.msa.identity.domain.UserStatus;
 import com.msa.identity.security.JwtProvider;
+import com.msa.identity.security.LoginThrottle;
+import com.msa.identity.security.PasswordVerifier;
 import com.msa.identity.web.exception.BlockedUserException;
 import com.msa.identity.web.exception.InvalidCredentialsException;
 import com.msa.identity.web.response.AuthResponse;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AuthService implements AuthUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
     private final JwtProvider jwtProvider;
+    private final LoginThrottle loginThrottle;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtProvider jwtProvider) {
+    public AuthService(UserRepository userRepository, PasswordVerifier passwordVerifier, JwtProvider jwtProvider,
+                       LoginThrottle loginThrottle) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordVerifier = passwordVerifier;
         this.jwtProvider = jwtProvider;
+        this.loginThrottle = loginThrottle;
     }
 
     @Override
-    public AuthResponse login(LoginCommand command) {
-        User user = userRepository.findByEmail(command.email())
-                .orElseThrow(InvalidCredentialsException::new);
+    public CompletableFuture<AuthResponse> login(LoginCommand command) {
+        try {
+            loginThrottle.checkAllowed(command.email(), command.clientIp());
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        User user = userRepository.findByEmail(command.email()).orElse(null);
+        if (user == null) {
+            loginThrottle.recordFailure(command.email(), command.clientIp());
+            return CompletableFuture.failedFuture(new InvalidCredentialsException());
+        }
+
+        // BCrypt 비교는 전용 풀에서 수행해 요청 스레드를 점유하지 않는다.
+        return passwordVerifier.verify(command.password(), user.getPasswordHash())
+                .thenApply(verification -> issueToken(command, user, verification));
+    }
 
-        if (!passwordEncoder.matches(command.password(), user.getPasswordHash())) {
+    private AuthResponse issueToken(LoginCommand command, User user, PasswordVerifier.Verification verification) {
+        if (!verification.matches()) {
+            loginThrottle.recordFailure(command.email(), command.clientIp());
             throw new InvalidCredentialsException();
         }
+        loginThrottle.recordSuccess(command.email());
 
         if (user.getStatus() == UserStatus.BLOCKED) {
             throw new BlockedUserException();
         }
 
+        if (verification.rehashedPassword() != null) {
+            upgradePasswordHash(user, verification.rehashedPassword());
+        }
+
         String token = jwtProvider.generateToken(user.getEmail(), user.getRole());
         return new AuthResponse(token, user.getEmail(), user.getRole().name());
     }
+
+    // 비용이 다른 해시는 로그인 성공 시점에 현재 비용으로 교체한다. 실패해도 로그인은 진행한다.
+    private void upgradePasswordHash(User user, String rehashedPassword) {
+        try {
+            userRepository.updatePasswordHash(
+                    user.getId(), user.getPasswordHash(), rehashedPassword, OffsetDateTime.now());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to upgrade password hash for {}", user.getEmail(), ex);
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package com.msa.identity.application;
+
+public record MemberReconciliationReport(
+        long usersScanned,
+        long membersScanned,
+        long matched,
+        long missingMembers,
+        long repairedMembers,
+        long orphanMembers,
+        long durationMillis
+) {
+}
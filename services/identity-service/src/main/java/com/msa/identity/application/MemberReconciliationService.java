@@ -0,0 +1,199 @@
+package com.msa.identity.application;
+
+import com.msa.identity.config.MemberReconciliationProperties;
+import com.msa.identity.domain.JobLockRepository;
+import com.msa.identity.domain.UserRepository;
+import com.msa.identity.integration.MemberSyncClient;
+import com.msa.identity.web.exception.ReconciliationInProgressException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MemberReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberReconciliationService.class);
+    private static final String LOCK_NAME = "member-reconciliation";
+
+    private final UserRepository userRepository;
+    private final MemberSyncClient memberSyncClient;
+    private final MemberReconciliationProperties properties;
+    private final JobLockRepository jobLockRepository;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public MemberReconciliationService(UserRepository userRepository,
+                                       MemberSyncClient memberSyncClient,
+                                       MemberReconciliationProperties properties,
+                                       JobLockRepository jobLockRepository) {
+        this.userRepository = userRepository;
+        this.memberSyncClient = memberSyncClient;
+        this.properties = properties;
+        this.jobLockRepository = jobLockRepository;
+    }
+
+    @Scheduled(cron = "${member.reconciliation.cron:0 0 3 * * *}")
+    public void scheduledReconcile() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (ReconciliationInProgressException ignored) {
+            // 이 인스턴스나 다른 인스턴스에서 이미 돌고 있으면 이번 주기는 건너뛴다.
+        } catch (RuntimeException ex) {
+            log.warn("멤버 정합성 점검 실패: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * users와 members를 이메일(C 콜레이션) 순서로 키셋 페이지씩 읽으며 병합 조인한다.
+     * 메모리에는 양쪽 한 페이지와 복구 대기 묶음만 올라가므로 행 수와 무관하게 일정하다.
+     */
+    public MemberReconciliationReport reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ReconciliationInProgressException();
+        }
+        try {
+            // 예약 실행은 모든 인스턴스에서 동시에 울리므로 DB 임대 잠금으로 한 곳에서만 돌게 한다.
+            String owner = jobLockRepository.tryAcquire(LOCK_NAME, properties.getLockLease());
+            if (owner == null) {
+                throw new ReconciliationInProgressException();
+            }
+            try {
+                return doReconcile(owner);
+            } finally {
+                jobLockRepository.release(LOCK_NAME, owner);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private MemberReconciliationReport doReconcile(String owner) {
+        long start = System.nanoTime();
+        int pageSize = properties.getPageSize();
+        KeysetCursor users = new KeysetCursor((after, limit) -> {
+            renewLease(owner);
+            return userRepository.findSyncableEmailsAfter(after, limit);
+        }, pageSize);
+        KeysetCursor members = new KeysetCursor((after, limit) -> {
+            renewLease(owner);
+            return memberSyncClient.fetchMemberEmails(after, limit);
+        }, pageSize);
+        List<MemberSyncClient.MemberSyncItem> repairs = new ArrayList<>(properties.getRepairBatchSize());
+
+        long matched = 0;
+        long missing = 0;
+        long repaired = 0;
+        long orphans = 0;
+        String user = users.next();
+        String member = members.next();
+        while (user != null) {
+            int cmp = member == null ? -1 : compareCodePoints(user, member);
+            if (cmp < 0) {
+                missing++;
+                repairs.add(new MemberSyncClient.MemberSyncItem(user, user.split("@")[0]));
+                if (repairs.size() >= properties.getRepairBatchSize()) {
+                    repaired += flush(repairs);
+                }
+                user = users.next();
+            } else if (cmp > 0) {
+                orphans++;
+                member = members.next();
+            } else {
+                matched++;
+                user = users.next();
+                member = members.next();
+            }
+        }
+        while (member != null) {
+            orphans++;
+            member = members.next();
+        }
+        repaired += flush(repairs);
+
+        MemberReconciliationReport report = new MemberReconciliationReport(users.scanned(), members.scanned(),
+                matched, missing, repaired, orphans, (System.nanoTime() - start) / 1_000_000);
+        log.info("멤버 정합성 점검 완료: {}", report);
+        return report;
+    }
+
+    /**
+     * 점검이 lock-lease보다 오래 걸려도 다른 인스턴스가 끼어들지 않도록 페이지를 읽을 때마다 임대를 연장한다.
+     * 이미 임대가 끝나 다른 인스턴스가 가져갔으면 중복 복구를 막기 위해 여기서 멈춘다.
+     */
+    private void renewLease(String owner) {
+        if (!jobLockRepository.renew(LOCK_NAME, owner, properties.getLockLease())) {
+            log.warn("멤버 정합성 점검 잠금을 잃어 중단합니다");
+            throw new ReconciliationInProgressException();
+        }
+    }
+
+    private int flush(List<MemberSyncClient.MemberSyncItem> repairs) {
+        if (repairs.isEmpty()) {
+            return 0;
+        }
+        memberSyncClient.syncMembers(List.copyOf(repairs));
+        int size = repairs.size();
+        repairs.clear();
+        return size;
+    }
+
+    // PostgreSQL C 콜레이션(UTF-8 바이트 순서)과 같은 코드 포인트 순서로 비교한다.
+    static int compareCodePoints(String left, String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            int a = left.codePointAt(i);
+            int b = right.codePointAt(j);
+            if (a != b) {
+                return Integer.compare(a, b);
+            }
+            i += Character.charCount(a);
+            j += Character.charCount(b);
+        }
+        return Integer.compare(left.length() - i, right.length() - j);
+    }
+
+    private static final class KeysetCursor {
+
+        private final BiFunction<String, Integer, List<String>> fetch;
+        private final int pageSize;
+        private List<String> page = List.of();
+        private int index;
+        private String after = "";
+        private boolean exhausted;
+        private long scanned;
+
+        private KeysetCursor(BiFunction<String, Integer, List<String>> fetch, int pageSize) {
+            this.fetch = fetch;
+            this.pageSize = pageSize;
+        }
+
+        private String next() {
+            if (index >= page.size()) {
+                if (exhausted) {
+                    return null;
+                }
+                page = fetch.apply(after, pageSize);
+                index = 0;
+                exhausted = page.size() < pageSize;
+                if (page.isEmpty()) {
+                    return null;
+                }
+                after = page.get(page.size() - 1);
+            }
+            scanned++;
+            return page.get(index++);
+        }
+
+        private long scanned() {
+            return scanned;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.msa.identity.application;
 
 import com.msa.identity.application.command.SignupCommand;
+import com.msa.identity.application.paging.TotalCounter;
 import com.msa.identity.application.port.MemberSyncPort;
 import com.msa.identity.application.port.SignupUseCase;
 import com.msa.identity.domain.User;
@@ -18,15 +19,18 @@ public class SignupService implements SignupUseCase {
     private final PasswordEncoder passwordEncoder;
     private final MemberSyncPort memberSyncPort;
     private final UserFactory userFactory;
+    private final TotalCounter totalCounter;
 
     public SignupService(UserRepository userRepository,
                          PasswordEncoder passwordEncoder,
                          MemberSyncPort memberSyncPort,
-                         UserFactory userFactory) {
+                         UserFactory userFactory,
+                         TotalCounter totalCounter) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.memberSyncPort = memberSyncPort;
         this.userFactory = userFactory;
+        this.totalCounter = totalCounter;
     }
 
     @Override
@@ -41,6 +45,7 @@ public class SignupService implements SignupUseCase {
         User saved = userRepository.save(newUser);
         String name = command.email().split("@")[0];
         memberSyncPort.syncMember(command.email(), name);
+        totalCounter.invalidate(UserQueryService.USER_TABLE);
         return saved;
     }
 }
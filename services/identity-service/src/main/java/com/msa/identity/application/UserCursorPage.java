@@ -0,0 +1,11 @@
+package com.msa.identity.application;
+
+import com.msa.identity.domain.User;
+import java.util.List;
+
+public record UserCursorPage(
+        List<User> users,
+        String nextCursor,
+        Long totalElements
+) {
+}
@@ -1,21 +1,47 @@
 package com.msa.identity.application;
 
+import com.msa.identity.application.paging.TotalCounter;
 import com.msa.identity.domain.User;
 import com.msa.identity.domain.UserRepository;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class UserQueryService {
 
+    static final String USER_TABLE = "users";
+
     private final UserRepository userRepository;
+    private final TotalCounter totalCounter;
 
-    public UserQueryService(UserRepository userRepository) {
+    public UserQueryService(UserRepository userRepository, TotalCounter totalCounter) {
         this.userRepository = userRepository;
+        this.totalCounter = totalCounter;
     }
 
+    @Transactional(readOnly = true)
     public Page<User> listUsers(Pageable pageable) {
-        return userRepository.findAll(pageable);
+        return totalCounter.page(userRepository.findAllBy(pageable), pageable, USER_TABLE, null,
+                userRepository::count);
+    }
+
+    @Transactional(readOnly = true)
+    public UserCursorPage listUsersAfter(String cursor, int size, boolean withTotal) {
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다.
+        List<User> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = userRepository.findFirstByCreatedAtDesc(size + 1);
+        } else {
+            UserCursor after = UserCursor.decode(cursor);
+            rows = userRepository.findNextByCreatedAtDesc(after.createdAt(), after.id(), size + 1);
+        }
+        boolean hasNext = rows.size() > size;
+        List<User> users = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? UserCursor.of(users.get(users.size() - 1)).encode() : null;
+        Long total = withTotal ? userRepository.count() : null;
+        return new UserCursorPage(users, nextCursor, total);
     }
 }
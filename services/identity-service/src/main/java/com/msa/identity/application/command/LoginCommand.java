@@ -1,4 +1,4 @@
 package com.msa.identity.application.command;
 
-public record LoginCommand(String email, String password) {
+public record LoginCommand(String email, String password, String clientIp) {
 }
@@ -0,0 +1,33 @@
+package com.msa.identity.application.paging;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 전체 건수가 정확한 값인지(추정/캐시 값이 아닌지)를 함께 들고 다니는 Page.
+ */
+public class CountedPage<T> extends PageImpl<T> {
+
+    private final boolean totalExact;
+
+    public CountedPage(List<T> content, Pageable pageable, long total, boolean totalExact) {
+        super(content, pageable, total);
+        this.totalExact = totalExact;
+    }
+
+    public boolean isTotalExact() {
+        return totalExact;
+    }
+
+    @Override
+    public <U> CountedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CountedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), totalExact);
+    }
+
+    public static boolean isTotalExact(Page<?> page) {
+        return !(page instanceof CountedPage<?> counted) || counted.isTotalExact();
+    }
+}
@@ -2,7 +2,8 @@ package com.msa.identity.application.port;
 
 import com.msa.identity.application.command.LoginCommand;
 import com.msa.identity.web.response.AuthResponse;
+import java.util.concurrent.CompletableFuture;
 
 public interface AuthUseCase {
-    AuthResponse login(LoginCommand command);
+    CompletableFuture<AuthResponse> login(LoginCommand command);
 }
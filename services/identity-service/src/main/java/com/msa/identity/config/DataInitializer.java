@@ -1,52 +1,116 @@
 package com.msa.identity.config;
 
-import com.msa.identity.domain.User;
-import com.msa.identity.domain.UserRepository;
 import com.msa.identity.domain.UserRole;
 import com.msa.identity.domain.UserStatus;
-import jakarta.annotation.PostConstruct;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class DataInitializer {
 
-    private final UserRepository userRepository;
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
+    private static final String EXISTING_EMAILS_SQL = "select email from users where email = any(?)";
+    private static final String INSERT_SQL =
+            "insert into users (id, email, password_hash, role, status, created_at, updated_at) "
+                    + "values (?, ?, ?, ?, ?, ?, ?) on conflict (email) do nothing";
+
+    private final JdbcTemplate jdbcTemplate;
     private final PasswordEncoder passwordEncoder;
+    private final SeedProperties properties;
 
-    public DataInitializer(UserRepository userRepository, PasswordEncoder passwordEncoder) {
-        this.userRepository = userRepository;
+    public DataInitializer(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, SeedProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
         this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+    }
+
+    // 시드 양이 많아도 기동/readiness를 막지 않도록 준비 완료 후 별도 스레드에서 수행한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Thread.ofPlatform().name("identity-seeder").daemon(true).start(() -> {
+            try {
+                seedUsers();
+            } catch (RuntimeException ex) {
+                log.warn("User seeding failed", ex);
+            }
+        });
     }
 
-    @PostConstruct
-    @Transactional
     public void seedUsers() {
-        if (!userRepository.existsByEmail("admin")) {
-            User admin = new User("admin", passwordEncoder.encode("yangyag1!"), UserRole.ADMIN, UserStatus.ACTIVE);
-            userRepository.save(admin);
+        long start = System.nanoTime();
+        List<SeedUser> seeds = new ArrayList<>(properties.getCount() + 1);
+        seeds.add(new SeedUser("admin", "yangyag1!", UserRole.ADMIN));
+        for (int i = 1; i <= properties.getCount(); i++) {
+            seeds.add(new SeedUser(String.format("user%03d@example.com", i), "password123", UserRole.USER));
         }
 
-        long currentCount = userRepository.count();
-        long target = 101; // admin + 100 users
-        if (currentCount >= target) {
+        Set<String> existing = existingEmails(seeds);
+        List<SeedUser> missing = seeds.stream().filter(seed -> !existing.contains(seed.email())).toList();
+        if (missing.isEmpty()) {
             return;
         }
 
-        List<User> batch = new ArrayList<>();
-        for (int i = 1; i <= 100; i++) {
-            String email = String.format("user%03d@example.com", i);
-            if (userRepository.existsByEmail(email)) {
-                continue;
-            }
-            User user = new User(email, passwordEncoder.encode("password123"), UserRole.USER, UserStatus.ACTIVE);
-            batch.add(user);
-        }
-        if (!batch.isEmpty()) {
-            userRepository.saveAll(batch);
-        }
+        // 같은 비밀번호는 한 번만 해시하고, 서로 다른 비밀번호는 코어 수만큼 병렬로 해시한다.
+        Map<String, String> hashes = missing.stream()
+                .map(SeedUser::password)
+                .distinct()
+                .parallel()
+                .collect(Collectors.toConcurrentMap(Function.identity(), passwordEncoder::encode));
+
+        // 배치 전체가 같은 DB 기본 시각을 받으면 created_at 정렬 페이지가 행을 중복/누락하므로
+        // 생성 순서대로 행마다 1µs씩 다른 시각을 준다.
+        OffsetDateTime base = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Integer> indexes = IntStream.range(0, missing.size()).boxed().toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, indexes, properties.getBatchSize(), (ps, i) -> {
+            SeedUser seed = missing.get(i);
+            OffsetDateTime createdAt = base.plus(i, ChronoUnit.MICROS);
+            ps.setObject(1, UUID.randomUUID());
+            ps.setString(2, seed.email());
+            ps.setString(3, hashes.get(seed.password()));
+            ps.setString(4, seed.role().name());
+            ps.setString(5, UserStatus.ACTIVE.name());
+            ps.setObject(6, createdAt);
+            ps.setObject(7, createdAt);
+        });
+        log.info("Seeded {} users in {} ms", missing.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Set<String> existingEmails(List<SeedUser> seeds) {
+        String[] emails = seeds.stream().map(SeedUser::email).toArray(String[]::new);
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(EXISTING_EMAILS_SQL);
+            Array array = connection.createArrayOf("varchar", emails);
+            ps.setArray(1, array);
+            return ps;
+        }, rs -> {
+            existing.add(rs.getString(1));
+        });
+        return existing;
+    }
+
+    private record SeedUser(String email, String password, UserRole role) {
     }
 }
@@ -0,0 +1,18 @@
+package com.msa.identity.config;
+
+import com.msa.identity.security.InMemoryLoginAttemptStore;
+import com.msa.identity.security.LoginAttemptStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoginThrottleConfig {
+
+    // 여러 인스턴스가 실패 횟수를 공유해야 하면 공유 저장소 기반 LoginAttemptStore 빈을 등록해 대체한다.
+    @Bean
+    @ConditionalOnMissingBean(LoginAttemptStore.class)
+    public LoginAttemptStore loginAttemptStore(LoginThrottleProperties properties) {
+        return new InMemoryLoginAttemptStore(properties.getWindow(), properties.getMaxEntries());
+    }
+}
@@ -0,0 +1,75 @@
+package com.msa.identity.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "auth.login-throttle")
+public class LoginThrottleProperties {
+
+    /**
+     * 로그인 실패 누적 차단 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 실패 횟수를 세는 슬라이딩 윈도 길이
+     */
+    private Duration window = Duration.ofMinutes(15);
+
+    /**
+     * 윈도 안에서 이메일 하나에 허용하는 최대 실패 횟수 (0이면 검사하지 않음)
+     */
+    private int maxFailuresPerEmail = 5;
+
+    /**
+     * 윈도 안에서 클라이언트 IP 하나에 허용하는 최대 실패 횟수 (0이면 검사하지 않음)
+     */
+    private int maxFailuresPerIp = 100;
+
+    /**
+     * 메모리 저장소가 키 종류(이메일/IP)별로 추적하는 최대 키 수. 활성 키로 가득 차면 새 키의 로그인은 차단된다
+     */
+    private int maxEntries = 100_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getMaxFailuresPerEmail() {
+        return maxFailuresPerEmail;
+    }
+
+    public void setMaxFailuresPerEmail(int maxFailuresPerEmail) {
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+    }
+
+    public int getMaxFailuresPerIp() {
+        return maxFailuresPerIp;
+    }
+
+    public void setMaxFailuresPerIp(int maxFailuresPerIp) {
+        this.maxFailuresPerIp = maxFailuresPerIp;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
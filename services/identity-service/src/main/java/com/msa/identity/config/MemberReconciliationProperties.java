@@ -0,0 +1,75 @@
+package com.msa.identity.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "member.reconciliation")
+public class MemberReconciliationProperties {
+
+    /**
+     * 예약 실행 여부 (관리자 API 수동 실행은 항상 가능)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 예약 실행 cron 표현식
+     */
+    private String cron = "0 0 3 * * *";
+
+    /**
+     * users / members 키셋 페이지 크기
+     */
+    private int pageSize = 1000;
+
+    /**
+     * 누락 멤버 복구 시 일괄 동기화 요청 크기
+     */
+    private int repairBatchSize = 500;
+
+    /**
+     * 인스턴스 간 실행 잠금 임대 시간. 페이지를 읽을 때마다 연장하므로 한 페이지 처리 시간보다 길면 된다
+     */
+    private Duration lockLease = Duration.ofHours(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getRepairBatchSize() {
+        return repairBatchSize;
+    }
+
+    public void setRepairBatchSize(int repairBatchSize) {
+        this.repairBatchSize = repairBatchSize;
+    }
+
+    public Duration getLockLease() {
+        return lockLease;
+    }
+
+    public void setLockLease(Duration lockLease) {
+        this.lockLease = lockLease;
+    }
+}
@@ -1,5 +1,6 @@
 package com.msa.identity.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +12,21 @@ public class MemberServiceProperties {
      */
     private String url = "http://localhost:8082";
 
+    /**
+     * 연결 타임아웃
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 응답 대기 타임아웃
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * member-service 내부 API 호출용 서비스 토큰 유효 시간. 남은 시간이 절반 아래로 내려가면 새로 발급한다
+     */
+    private Duration serviceTokenTtl = Duration.ofMinutes(5);
+
     public String getUrl() {
         return url;
     }
@@ -18,4 +34,28 @@ public class MemberServiceProperties {
     public void setUrl(String url) {
         this.url = url;
     }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Duration getServiceTokenTtl() {
+        return serviceTokenTtl;
+    }
+
+    public void setServiceTokenTtl(Duration serviceTokenTtl) {
+        this.serviceTokenTtl = serviceTokenTtl;
+    }
 }
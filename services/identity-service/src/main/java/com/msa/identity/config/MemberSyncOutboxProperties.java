@@ -0,0 +1,94 @@
+package com.msa.identity.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "member.sync.outbox")
+public class MemberSyncOutboxProperties {
+
+    /**
+     * 한 번에 member-service로 보내는 최대 건수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 미전송 행 확인 주기
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * 첫 재시도 대기 시간 (실패할 때마다 두 배)
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    /**
+     * 재시도 대기 시간 상한
+     */
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    /**
+     * 가져간 행을 다른 디스패처가 다시 가져가지 않도록 미뤄 두는 시간. 거부 행을 골라내는 재전송까지 끝날 만큼 길어야 한다.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(5);
+
+    /**
+     * 이 횟수만큼 실패하면 자동 재시도를 멈추고 parked 상태로 둔다
+     */
+    private int maxAttempts = 10;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    public void setLeaseDuration(Duration leaseDuration) {
+        this.leaseDuration = leaseDuration;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration backoffFor(int attempts) {
+        int shift = Math.min(Math.max(attempts, 0), 20);
+        Duration backoff = initialBackoff.multipliedBy(1L << shift);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
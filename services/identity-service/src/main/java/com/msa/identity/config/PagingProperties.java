@@ -0,0 +1,76 @@
+package com.msa.identity.config;
+
+import com.msa.identity.application.paging.CountMode;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "paging.count")
+public class PagingProperties {
+
+    /**
+     * 페이지 응답의 전체 건수 계산 방식 (EXACT, ESTIMATE, CACHED)
+     */
+    private CountMode mode = CountMode.ESTIMATE;
+
+    /**
+     * ESTIMATE 모드에서 추정치를 쓰기 시작하는 최소 행 수 (그보다 작은 테이블은 정확한 count)
+     */
+    private long estimateThreshold = 100_000;
+
+    /**
+     * ESTIMATE 모드에서 테이블별 reltuples 값을 재사용하는 시간 (ANALYZE 때만 바뀌므로 count 캐시보다 길게 둔다)
+     */
+    private Duration estimateTtl = Duration.ofMinutes(1);
+
+    /**
+     * CACHED 모드에서 count 결과를 재사용하는 시간
+     */
+    private Duration cacheTtl = Duration.ofSeconds(5);
+
+    /**
+     * CACHED 모드에서 보관하는 최대 필터 조합 수
+     */
+    private int cacheMaxEntries = 1_000;
+
+    public CountMode getMode() {
+        return mode;
+    }
+
+    public void setMode(CountMode mode) {
+        this.mode = mode;
+    }
+
+    public long getEstimateThreshold() {
+        return estimateThreshold;
+    }
+
+    public void setEstimateThreshold(long estimateThreshold) {
+        this.estimateThreshold = estimateThreshold;
+    }
+
+    public Duration getEstimateTtl() {
+        return estimateTtl;
+    }
+
+    public void setEstimateTtl(Duration estimateTtl) {
+        this.estimateTtl = estimateTtl;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public void setCacheTtl(Duration cacheTtl) {
+        this.cacheTtl = cacheTtl;
+    }
+
+    public int getCacheMaxEntries() {
+        return cacheMaxEntries;
+    }
+
+    public void setCacheMaxEntries(int cacheMaxEntries) {
+        this.cacheMaxEntries = cacheMaxEntries;
+    }
+}
@@ -0,0 +1,91 @@
+package com.msa.identity.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * 비밀번호 검증 전용 스레드 수 (0이면 CPU 코어 수)
+     */
+    private int threads = 0;
+
+    /**
+     * 대기 큐 용량, 가득 차면 로그인 요청을 503으로 거절
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 고정 BCrypt 비용 (0이면 기동 시 벤치마크로 결정). 여러 인스턴스가 같은 비용을 쓰게 하려면 값을 지정한다
+     */
+    private int strength = 0;
+
+    /**
+     * 벤치마크 시 목표로 하는 비밀번호 검증 시간(ms)
+     */
+    private long targetMillis = 100;
+
+    /**
+     * 벤치마크로 고를 수 있는 최소 비용
+     */
+    private int minStrength = 10;
+
+    /**
+     * 벤치마크로 고를 수 있는 최대 비용
+     */
+    private int maxStrength = 14;
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public void setStrength(int strength) {
+        this.strength = strength;
+    }
+
+    public long getTargetMillis() {
+        return targetMillis;
+    }
+
+    public void setTargetMillis(long targetMillis) {
+        this.targetMillis = targetMillis;
+    }
+
+    public int getMinStrength() {
+        return minStrength;
+    }
+
+    public void setMinStrength(int minStrength) {
+        this.minStrength = minStrength;
+    }
+
+    public int getMaxStrength() {
+        return maxStrength;
+    }
+
+    public void setMaxStrength(int maxStrength) {
+        this.maxStrength = maxStrength;
+    }
+
+    public int resolveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,36 @@
+package com.msa.identity.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "auth.principal-cache")
+public class PrincipalCacheProperties {
+
+    /**
+     * 인증 필터가 조회한 사용자 정보(역할/상태)를 재사용하는 시간 (0이면 비활성화)
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * 캐시 최대 항목 수
+     */
+    private int maxEntries = 10_000;
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
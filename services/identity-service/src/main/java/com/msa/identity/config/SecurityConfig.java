@@ -1,5 +1,6 @@
 package com.msa.identity.config;
 
+import com.msa.identity.security.AdaptiveBCryptPasswordEncoder;
 import com.msa.identity.security.JwtAuthenticationFilter;
 import java.util.Arrays;
 import org.springframework.context.annotation.Bean;
@@ -13,7 +14,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -50,14 +50,18 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AdaptiveBCryptPasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        if (properties.getStrength() > 0) {
+            return new AdaptiveBCryptPasswordEncoder(properties.getStrength());
+        }
+        return AdaptiveBCryptPasswordEncoder.calibrate(
+                properties.getTargetMillis(), properties.getMinStrength(), properties.getMaxStrength());
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
         provider.setUserDetailsService(userDetailsService);
         return provider;
     }
@@ -0,0 +1,52 @@
+package com.msa.identity.domain;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JobLockRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String acquireSql;
+    private final String renewSql;
+    private final String releaseSql;
+
+    // 테이블 이름은 마이그레이션과 같은 Flyway 플레이스홀더 값을 쓴다.
+    public JobLockRepository(JdbcTemplate jdbcTemplate,
+                             @Value("${spring.flyway.placeholders.job_lock_table:job_locks}") String table) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 잠금 행이 없으면 만들고, 있으면 임대가 끝난 경우에만 가져온다. 영향받은 행이 1이면 획득한 것이다.
+        this.acquireSql = "insert into " + table + " (name, locked_until, locked_by) values (?, ?, ?) "
+                + "on conflict (name) do update set locked_until = excluded.locked_until, locked_by = excluded.locked_by "
+                + "where " + table + ".locked_until <= ?";
+        this.renewSql = "update " + table + " set locked_until = ? "
+                + "where name = ? and locked_by = ? and locked_until > ?";
+        this.releaseSql = "update " + table + " set locked_until = ? where name = ? and locked_by = ?";
+    }
+
+    /**
+     * 잠금을 lease 동안 임대한다. 다른 인스턴스가 잡고 있으면 null, 획득하면 해제에 쓸 소유자 토큰을 반환한다.
+     */
+    public String tryAcquire(String name, Duration lease) {
+        OffsetDateTime now = OffsetDateTime.now();
+        String owner = UUID.randomUUID().toString();
+        int updated = jdbcTemplate.update(acquireSql, name, now.plus(lease), owner, now);
+        return updated == 1 ? owner : null;
+    }
+
+    /**
+     * 아직 소유 중인 잠금의 임대를 지금부터 lease만큼 연장한다. 이미 만료돼 다른 인스턴스가 가져갔으면 false를 반환한다.
+     */
+    public boolean renew(String name, String owner, Duration lease) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return jdbcTemplate.update(renewSql, now.plus(lease), name, owner, now) == 1;
+    }
+
+    public void release(String name, String owner) {
+        jdbcTemplate.update(releaseSql, OffsetDateTime.now(), name, owner);
+    }
+}
@@ -0,0 +1,131 @@
+package com.msa.identity.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "member_sync_outbox")
+public class MemberSyncOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String email;
+
+    @Column(nullable = false, length = 255)
+    private String name;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private OffsetDateTime deliveredAt;
+
+    @Column(name = "parked_at")
+    private OffsetDateTime parkedAt;
+
+    protected MemberSyncOutbox() {
+        // for JPA
+    }
+
+    public MemberSyncOutbox(String email, String name) {
+        this.email = email;
+        this.name = name;
+    }
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = OffsetDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+
+    public void markDelivered(OffsetDateTime deliveredAt) {
+        this.deliveredAt = deliveredAt;
+        this.lastError = null;
+    }
+
+    /**
+     * 전송하는 동안 다른 디스패처가 같은 행을 가져가지 않도록 다음 시도 시각을 임대 만료 시각으로 미룬다.
+     */
+    public void lease(OffsetDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void scheduleRetry(OffsetDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 더 이상 자동으로 재시도하지 않는다. 원인을 확인한 뒤 parked_at을 비우면 다시 전송된다.
+     */
+    public void park(OffsetDateTime parkedAt, String error) {
+        this.attempts++;
+        this.parkedAt = parkedAt;
+        this.lastError = truncate(error);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public OffsetDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OffsetDateTime getDeliveredAt() {
+        return deliveredAt;
+    }
+
+    public OffsetDateTime getParkedAt() {
+        return parkedAt;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
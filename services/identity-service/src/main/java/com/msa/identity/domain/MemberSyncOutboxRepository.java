@@ -0,0 +1,18 @@
+package com.msa.identity.domain;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MemberSyncOutboxRepository extends JpaRepository<MemberSyncOutbox, Long> {
+
+    // 여러 인스턴스가 동시에 디스패치해도 같은 행을 중복 전송하지 않도록 잠긴 행은 건너뛴다.
+    @Query(value = "select * from member_sync_outbox "
+            + "where delivered_at is null and parked_at is null and next_attempt_at <= :now "
+            + "order by id limit :limit for update skip locked", nativeQuery = true)
+    List<MemberSyncOutbox> lockDueBatch(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    long countByDeliveredAtIsNull();
+}
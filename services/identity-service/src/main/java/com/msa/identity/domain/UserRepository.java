@@ -1,10 +1,52 @@
 package com.msa.identity.domain;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
     Optional<User> findByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.passwordHash = :newHash, u.updatedAt = :updatedAt "
+            + "where u.id = :id and u.passwordHash = :previousHash")
+    int updatePasswordHash(@Param("id") UUID id,
+                           @Param("previousHash") String previousHash,
+                           @Param("newHash") String newHash,
+                           @Param("updatedAt") OffsetDateTime updatedAt);
+
+    @Query(value = "select substring(password_hash from 5 for 2) as cost, count(*) as users "
+            + "from users group by substring(password_hash from 5 for 2)", nativeQuery = true)
+    List<HashCostCount> countByHashCost();
+
+    // 가입 시 멤버로 동기화되는 USER 역할만 대상으로, C 콜레이션 인덱스를 타는 키셋 페이지
+    @Query(value = "select email from users where role = 'USER' and email collate \"C\" > :after "
+            + "order by email collate \"C\" limit :limit", nativeQuery = true)
+    List<String> findSyncableEmailsAfter(@Param("after") String after, @Param("limit") int limit);
+
+    List<User> findAllBy(Pageable pageable);
+
+    @Query(value = "select * from users order by created_at desc, id desc limit :limit", nativeQuery = true)
+    List<User> findFirstByCreatedAtDesc(@Param("limit") int limit);
+
+    // (created_at, id) 행 값 비교로 idx_users_created_at_id를 바로 탐색해 OFFSET 스캔을 피한다.
+    @Query(value = "select * from users where (created_at, id) < (:createdAt, :id) "
+            + "order by created_at desc, id desc limit :limit", nativeQuery = true)
+    List<User> findNextByCreatedAtDesc(@Param("createdAt") OffsetDateTime createdAt,
+                                       @Param("id") UUID id,
+                                       @Param("limit") int limit);
+
+    interface HashCostCount {
+        String getCost();
+        long getUsers();
+    }
 }
@@ -1,37 +1,96 @@
 package com.msa.identity.integration;
 
-import com.msa.identity.application.port.MemberSyncPort;
 import com.msa.identity.config.MemberServiceProperties;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.msa.identity.security.JwtProvider;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 @Component
-public class MemberSyncClient implements MemberSyncPort {
+public class MemberSyncClient {
 
-    private static final Logger log = LoggerFactory.getLogger(MemberSyncClient.class);
+    private static final String SERVICE_SUBJECT = "identity-service";
 
     private final RestClient restClient;
+    private final JwtProvider jwtProvider;
+    private final Duration serviceTokenTtl;
+    private volatile ServiceToken serviceToken;
 
-    public MemberSyncClient(MemberServiceProperties properties, RestClient.Builder builder) {
-        this.restClient = builder.baseUrl(properties.getUrl()).build();
+    public MemberSyncClient(MemberServiceProperties properties, RestClient.Builder builder, JwtProvider jwtProvider) {
+        this.jwtProvider = jwtProvider;
+        this.serviceTokenTtl = properties.getServiceTokenTtl();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getConnectTimeout());
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        this.restClient = builder.baseUrl(properties.getUrl())
+                .requestFactory(requestFactory)
+                .build();
     }
 
-    @Override
-    public void syncMember(String email, String name) {
-        try {
-            restClient.post()
-                    .uri("/api/v1/members/sync")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(new MemberSyncRequest(email, name))
-                    .retrieve()
-                    .toBodilessEntity();
-        } catch (Exception e) {
-            log.warn("멤버 동기화 실패: {}", e.getMessage());
+    /**
+     * member-service 일괄 동기화 API 호출. 처리 결과가 돌아온 이메일 집합을 반환하고,
+     * 실패하면 예외를 그대로 던져 아웃박스가 재시도하게 한다.
+     */
+    public Set<String> syncMembers(List<MemberSyncItem> members) {
+        MemberSyncBatchResponse response = restClient.post()
+                .uri("/api/v1/members/sync/batch")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + serviceToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new MemberSyncBatchRequest(members))
+                .retrieve()
+                .body(MemberSyncBatchResponse.class);
+        if (response == null || response.results() == null) {
+            // 항목별 결과가 없는 응답은 2xx 자체를 전체 반영으로 본다.
+            return members.stream().map(MemberSyncItem::email).collect(Collectors.toSet());
         }
+        return response.results().stream().map(MemberSyncResultItem::email).collect(Collectors.toSet());
     }
 
-    private record MemberSyncRequest(String email, String name) {}
+    /**
+     * member-service의 멤버 이메일을 C 콜레이션 순서로 after 다음부터 limit개 조회한다.
+     */
+    public List<String> fetchMemberEmails(String after, int limit) {
+        MemberEmailPage page = restClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/members/sync/emails")
+                        .queryParam("after", after)
+                        .queryParam("limit", limit)
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + serviceToken())
+                .retrieve()
+                .body(MemberEmailPage.class);
+        return page != null && page.emails() != null ? page.emails() : List.of();
+    }
+
+    /**
+     * 관리자 토큰 대신 member-service 내부 동기화 API에만 허용되는 SERVICE 역할의 짧은 토큰을 쓰고, 호출마다 새로 만들지 않고 재사용한다.
+     */
+    private String serviceToken() {
+        Instant now = Instant.now();
+        ServiceToken current = serviceToken;
+        if (current == null || now.isAfter(current.refreshAt())) {
+            current = new ServiceToken(jwtProvider.generateServiceToken(SERVICE_SUBJECT, serviceTokenTtl),
+                    now.plus(serviceTokenTtl.dividedBy(2)));
+            serviceToken = current;
+        }
+        return current.value();
+    }
+
+    public record MemberSyncItem(String email, String name) {}
+
+    private record ServiceToken(String value, Instant refreshAt) {}
+
+    private record MemberEmailPage(List<String> emails, String nextAfter) {}
+
+    private record MemberSyncBatchRequest(List<MemberSyncItem> members) {}
+
+    private record MemberSyncBatchResponse(List<MemberSyncResultItem> results) {}
+
+    private record MemberSyncResultItem(String email, String outcome) {}
 }
@@ -0,0 +1,173 @@
+package com.msa.identity.integration;
+
+import com.msa.identity.config.MemberSyncOutboxProperties;
+import com.msa.identity.domain.MemberSyncOutbox;
+import com.msa.identity.domain.MemberSyncOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+@Component
+public class MemberSyncOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberSyncOutboxDispatcher.class);
+
+    private final MemberSyncOutboxRepository outboxRepository;
+    private final MemberSyncClient memberSyncClient;
+    private final MemberSyncOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+
+    public MemberSyncOutboxDispatcher(MemberSyncOutboxRepository outboxRepository,
+                                      MemberSyncClient memberSyncClient,
+                                      MemberSyncOutboxProperties properties,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.memberSyncClient = memberSyncClient;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deliveredCounter = Counter.builder("identity.member.sync.delivered")
+                .description("Outbox rows delivered to member-service")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("identity.member.sync.failed")
+                .description("Outbox rows whose delivery attempt failed and was rescheduled")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder("identity.member.sync.parked")
+                .description("Outbox rows rejected by member-service or out of attempts, no longer retried")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${member.sync.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        // 배치가 꽉 찼으면 밀린 행이 더 있다는 뜻이므로 다음 주기를 기다리지 않고 이어서 보낸다.
+        int claimed;
+        do {
+            claimed = dispatchBatch();
+        } while (claimed >= properties.getBatchSize());
+    }
+
+    /**
+     * 짧은 트랜잭션으로 행을 임대하고, 트랜잭션 밖에서 전송한 뒤, 결과를 다시 짧은 트랜잭션으로 기록한다.
+     * 전송 중에는 DB 커넥션과 행 잠금을 잡고 있지 않는다.
+     */
+    int dispatchBatch() {
+        List<MemberSyncOutbox> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        DeliveryReport report = new DeliveryReport();
+        send(batch, report);
+        transactionTemplate.executeWithoutResult(status -> record(report));
+        return batch.size();
+    }
+
+    private List<MemberSyncOutbox> claimBatch() {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<MemberSyncOutbox> batch = outboxRepository.lockDueBatch(now, properties.getBatchSize());
+        OffsetDateTime leaseUntil = now.plus(properties.getLeaseDuration());
+        for (MemberSyncOutbox row : batch) {
+            row.lease(leaseUntil);
+        }
+        return batch;
+    }
+
+    private void send(List<MemberSyncOutbox> rows, DeliveryReport report) {
+        try {
+            Set<String> synced = memberSyncClient.syncMembers(rows.stream()
+                    .map(row -> new MemberSyncClient.MemberSyncItem(row.getEmail(), row.getName()))
+                    .toList());
+            for (MemberSyncOutbox row : rows) {
+                if (synced.contains(row.getEmail())) {
+                    report.delivered(row);
+                } else {
+                    report.retry(row, "member-service response has no result for this row");
+                }
+            }
+        } catch (HttpClientErrorException ex) {
+            if (!isRowRejection(ex)) {
+                report.retry(rows, ex.getMessage());
+            } else if (rows.size() == 1) {
+                report.reject(rows.get(0), ex.getMessage());
+            } else {
+                // 어느 행이 거부됐는지 응답으로 알 수 없으므로 반씩 나눠 다시 보내 거부된 행만 골라낸다.
+                int mid = rows.size() / 2;
+                send(rows.subList(0, mid), report);
+                send(rows.subList(mid, rows.size()), report);
+            }
+        } catch (RuntimeException ex) {
+            report.retry(rows, ex.getMessage());
+        }
+    }
+
+    private static boolean isRowRejection(HttpClientErrorException ex) {
+        return ex.getStatusCode().isSameCodeAs(HttpStatus.BAD_REQUEST)
+                || ex.getStatusCode().isSameCodeAs(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    private void record(DeliveryReport report) {
+        OffsetDateTime now = OffsetDateTime.now();
+        int delivered = 0;
+        int retried = 0;
+        int parked = 0;
+        for (MemberSyncOutbox row : outboxRepository.findAllById(report.outcomes.keySet())) {
+            Outcome outcome = report.outcomes.get(row.getId());
+            if (outcome.delivered()) {
+                row.markDelivered(now);
+                delivered++;
+            } else if (outcome.rejected() || row.getAttempts() + 1 >= properties.getMaxAttempts()) {
+                row.park(now, outcome.error());
+                parked++;
+            } else {
+                row.scheduleRetry(now.plus(properties.backoffFor(row.getAttempts())), outcome.error());
+                retried++;
+            }
+        }
+        deliveredCounter.increment(delivered);
+        failedCounter.increment(retried);
+        parkedCounter.increment(parked);
+        if (retried > 0 || parked > 0) {
+            log.warn("멤버 동기화 일부 실패: 전송 {}건, 재시도 예약 {}건, 보류 {}건", delivered, retried, parked);
+        }
+    }
+
+    private record Outcome(boolean delivered, boolean rejected, String error) {
+    }
+
+    private static final class DeliveryReport {
+
+        private final Map<Long, Outcome> outcomes = new HashMap<>();
+
+        void delivered(MemberSyncOutbox row) {
+            outcomes.put(row.getId(), new Outcome(true, false, null));
+        }
+
+        void retry(MemberSyncOutbox row, String error) {
+            outcomes.put(row.getId(), new Outcome(false, false, error));
+        }
+
+        void retry(List<MemberSyncOutbox> rows, String error) {
+            for (MemberSyncOutbox row : rows) {
+                retry(row, error);
+            }
+        }
+
+        void reject(MemberSyncOutbox row, String error) {
+            outcomes.put(row.getId(), new Outcome(false, true, error));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.msa.identity.integration;
+
+import com.msa.identity.application.port.MemberSyncPort;
+import com.msa.identity.domain.MemberSyncOutbox;
+import com.msa.identity.domain.MemberSyncOutboxRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class MemberSyncOutboxWriter implements MemberSyncPort {
+
+    private final MemberSyncOutboxRepository outboxRepository;
+
+    public MemberSyncOutboxWriter(MemberSyncOutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    // 가입 트랜잭션에 함께 커밋되므로 가입이 성공하면 동기화 요청도 반드시 남는다.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void syncMember(String email, String name) {
+        outboxRepository.save(new MemberSyncOutbox(email, name));
+    }
+}
@@ -0,0 +1,87 @@
+package com.msa.identity.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveBCryptPasswordEncoder.class);
+    private static final String BENCHMARK_PASSWORD = "benchmark-password-123";
+
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 현재 호스트에서 minStrength 비용의 해시 시간을 측정해, 목표 검증 시간을 넘지 않는 가장 높은 비용을 고른다.
+     * 비용이 1 오를 때마다 시간이 두 배가 되므로 한 단계만 측정해도 나머지를 추정할 수 있다.
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        String hash = probe.encode(BENCHMARK_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.matches(BENCHMARK_PASSWORD, hash);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double measuredMillis = best / 1_000_000.0;
+        int strength = minStrength;
+        double estimatedMillis = measuredMillis;
+        while (strength < maxStrength && estimatedMillis * 2 <= targetMillis) {
+            strength++;
+            estimatedMillis *= 2;
+        }
+        log.info("BCrypt cost {} selected (cost {} took {} ms, estimated {} ms, target {} ms)",
+                strength, minStrength, String.format("%.1f", measuredMillis),
+                String.format("%.1f", estimatedMillis), targetMillis);
+        return new AdaptiveBCryptPasswordEncoder(strength);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 비용보다 낮을 때만 재해시 대상으로 본다.
+     * 인스턴스마다 보정 결과가 다를 수 있으므로, 더 높은 비용을 낮추면 인스턴스 사이에서 매 로그인마다 재해시가 반복된다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost > 0 && cost < strength;
+    }
+
+    /**
+     * {@code $2a$10$...} 형식에서 비용을 읽는다. 형식이 다르면 -1.
+     */
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$'
+                || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+}
@@ -1,7 +1,7 @@
 package com.msa.identity.security;
 
 import com.msa.identity.domain.UserRepository;
-import java.util.List;
+import com.msa.identity.domain.UserStatus;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,18 +13,26 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache principalCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, UserPrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByEmail(username)
-                .map(u -> User.withUsername(u.getEmail())
-                        .password(u.getPasswordHash())
-                        .authorities(new SimpleGrantedAuthority("ROLE_" + u.getRole().name()))
-                        .build())
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        UserPrincipalCache.CachedPrincipal principal = principalCache.get(username);
+        if (principal == null) {
+            principal = userRepository.findByEmail(username)
+                    .map(principalCache::put)
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        }
+        // 캐시 항목을 공유하지 않도록 매번 새 UserDetails를 만든다 (eraseCredentials 대비).
+        return User.withUsername(principal.email())
+                .password(principal.passwordHash())
+                .authorities(new SimpleGrantedAuthority("ROLE_" + principal.role().name()))
+                .accountLocked(principal.status() == UserStatus.BLOCKED)
+                .build();
     }
 }
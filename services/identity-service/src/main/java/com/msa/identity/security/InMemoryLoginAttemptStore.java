@@ -0,0 +1,155 @@
+package com.msa.identity.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    static final int SLOTS = 10;
+
+    /**
+     * 저장소가 활성 키로 가득 차 새 키를 추적할 수 없을 때 돌려주는 실패 횟수. 어떤 한도보다도 크다.
+     */
+    public static final long SATURATED = Long.MAX_VALUE;
+
+    private final ConcurrentHashMap<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final long slotMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    public InMemoryLoginAttemptStore(Duration window, int maxEntries) {
+        this(window, maxEntries, Clock.systemUTC());
+    }
+
+    public InMemoryLoginAttemptStore(Duration window, int maxEntries, Clock clock) {
+        this.slotMillis = Math.max(1, window.toMillis() / SLOTS);
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * 키 접두사(email:, ip:)별로 따로 상한을 둔다. 없는 이메일로 이메일 키를 채워도 IP 키 추적은 밀려나지 않는다.
+     * 활성 키로 가득 찬 상태에서 새 키는 추적하지 못하므로 한도를 넘긴 것으로 보고 막는다.
+     */
+    @Override
+    public long recordFailure(String key) {
+        long slot = currentSlot();
+        Partition partition = partition(key);
+        SlidingCounter counter = partition.counters.get(key);
+        if (counter == null) {
+            if (partition.isFull(slot)) {
+                return SATURATED;
+            }
+            counter = partition.counters.computeIfAbsent(key, ignored -> new SlidingCounter());
+        }
+        return counter.increment(slot);
+    }
+
+    @Override
+    public long failures(String key) {
+        long slot = currentSlot();
+        Partition partition = partition(key);
+        SlidingCounter counter = partition.counters.get(key);
+        if (counter != null) {
+            return counter.sum(slot);
+        }
+        return partition.isFull(slot) ? SATURATED : 0;
+    }
+
+    @Override
+    public void reset(String key) {
+        partition(key).counters.remove(key);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Partition partition : partitions.values()) {
+            size += partition.counters.size();
+        }
+        return size;
+    }
+
+    private long currentSlot() {
+        return clock.millis() / slotMillis;
+    }
+
+    private Partition partition(String key) {
+        int separator = key.indexOf(':');
+        String scope = separator > 0 ? key.substring(0, separator) : "";
+        return partitions.computeIfAbsent(scope, ignored -> new Partition());
+    }
+
+    long sweepCount() {
+        long sweeps = 0;
+        for (Partition partition : partitions.values()) {
+            sweeps += partition.sweeps.get();
+        }
+        return sweeps;
+    }
+
+    private final class Partition {
+
+        private final ConcurrentHashMap<String, SlidingCounter> counters = new ConcurrentHashMap<>();
+        private final AtomicLong lastSweepSlot = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong sweeps = new AtomicLong();
+
+        private boolean isFull(long slot) {
+            if (counters.size() < maxEntries) {
+                return false;
+            }
+            evictIdle(slot);
+            return counters.size() >= maxEntries;
+        }
+
+        /**
+         * 키는 슬롯이 바뀔 때만 유휴 상태가 되므로 전체 순회는 슬롯당 한 번이면 충분하다.
+         * 활성 키로 가득 찬 상태에서 새 이메일이 계속 들어와도 요청마다 O(n) 순회를 하지 않게 한다.
+         */
+        private void evictIdle(long slot) {
+            long last = lastSweepSlot.get();
+            if (last >= slot || !lastSweepSlot.compareAndSet(last, slot)) {
+                return;
+            }
+            sweeps.incrementAndGet();
+            counters.entrySet().removeIf(entry -> entry.getValue().sum(slot) == 0);
+        }
+    }
+
+    /**
+     * 슬롯마다 (슬롯 번호 << 20 | 횟수)를 하나의 long에 담아 CAS 한 번으로 갱신한다.
+     */
+    private static final class SlidingCounter {
+
+        private static final int COUNT_BITS = 20;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final AtomicLongArray slots = new AtomicLongArray(SLOTS);
+
+        private long increment(long slot) {
+            int index = (int) (slot % SLOTS);
+            while (true) {
+                long current = slots.get(index);
+                long next = (current >>> COUNT_BITS) == slot
+                        ? Math.min(current + 1, (slot << COUNT_BITS) | COUNT_MASK)
+                        : (slot << COUNT_BITS) | 1;
+                if (slots.compareAndSet(index, current, next)) {
+                    return sum(slot);
+                }
+            }
+        }
+
+        private long sum(long slot) {
+            long total = 0;
+            for (int i = 0; i < SLOTS; i++) {
+                long value = slots.get(i);
+                if (slot - (value >>> COUNT_BITS) < SLOTS) {
+                    total += value & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+    }
+}
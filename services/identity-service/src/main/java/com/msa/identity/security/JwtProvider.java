@@ -7,6 +7,7 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.security.Key;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
@@ -15,6 +16,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtProvider {
 
+    /**
+     * 서비스 간 호출 전용 역할. 사용자 역할이 아니므로 게이트웨이 관리자 경로나 일반 API에서는 허용되지 않는다.
+     */
+    public static final String SERVICE_ROLE = "SERVICE";
+
     private final JwtProperties properties;
     private final Key signingKey;
 
@@ -35,6 +41,17 @@ public class JwtProvider {
                 .compact();
     }
 
+    public String generateServiceToken(String subject, Duration ttl) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim("role", SERVICE_ROLE)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(ttl)))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
     public Claims parseClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(signingKey)
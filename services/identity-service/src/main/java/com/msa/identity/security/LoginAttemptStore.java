@@ -0,0 +1,16 @@
+package com.msa.identity.security;
+
+/**
+ * 키(이메일/IP)별 최근 윈도 내 로그인 실패 횟수 저장소.
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * 실패를 한 번 기록하고 기록 후의 윈도 내 실패 횟수를 돌려준다.
+     */
+    long recordFailure(String key);
+
+    long failures(String key);
+
+    void reset(String key);
+}
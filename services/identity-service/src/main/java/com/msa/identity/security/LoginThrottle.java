@@ -0,0 +1,77 @@
+package com.msa.identity.security;
+
+import com.msa.identity.config.LoginThrottleProperties;
+import com.msa.identity.web.exception.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoginThrottle {
+
+    private final LoginThrottleProperties properties;
+    private final LoginAttemptStore store;
+    private final Counter emailRejections;
+    private final Counter ipRejections;
+
+    public LoginThrottle(LoginThrottleProperties properties, LoginAttemptStore store, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.emailRejections = rejectionCounter(meterRegistry, "email");
+        this.ipRejections = rejectionCounter(meterRegistry, "ip");
+    }
+
+    /**
+     * 실패 한도를 넘긴 이메일/IP는 사용자 조회와 BCrypt 비교 전에 거절한다.
+     */
+    public void checkAllowed(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int maxPerEmail = properties.getMaxFailuresPerEmail();
+        if (maxPerEmail > 0 && email != null && store.failures(emailKey(email)) >= maxPerEmail) {
+            emailRejections.increment();
+            throw new LoginThrottledException(properties.getWindow().toSeconds());
+        }
+        int maxPerIp = properties.getMaxFailuresPerIp();
+        if (maxPerIp > 0 && clientIp != null && store.failures(ipKey(clientIp)) >= maxPerIp) {
+            ipRejections.increment();
+            throw new LoginThrottledException(properties.getWindow().toSeconds());
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (email != null) {
+            store.recordFailure(emailKey(email));
+        }
+        if (clientIp != null) {
+            store.recordFailure(ipKey(clientIp));
+        }
+    }
+
+    // IP 카운터는 공유 NAT 뒤의 다른 사용자가 성공했다고 초기화하지 않는다.
+    public void recordSuccess(String email) {
+        if (properties.isEnabled() && email != null) {
+            store.reset(emailKey(email));
+        }
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("identity.login.throttled")
+                .description("Login attempts rejected before credential verification")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.msa.identity.security;
+
+import com.msa.identity.domain.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PasswordHashCostMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashCostMetrics.class);
+
+    private final UserRepository userRepository;
+    private final MultiGauge usersByCost;
+
+    public PasswordHashCostMetrics(
+            UserRepository userRepository, AdaptiveBCryptPasswordEncoder passwordEncoder, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.usersByCost = MultiGauge.builder("identity.password.hash.cost.users")
+                .description("Number of users whose stored password hash uses the given BCrypt cost")
+                .register(meterRegistry);
+        Gauge.builder("identity.password.hash.cost.target", passwordEncoder, AdaptiveBCryptPasswordEncoder::getStrength)
+                .description("BCrypt cost used for new and upgraded password hashes")
+                .register(meterRegistry);
+    }
+
+    // 사용자 테이블 전체를 집계하므로 스크레이프마다 조회하지 않고 주기적으로만 갱신한다.
+    @Scheduled(fixedDelayString = "${auth.password-hashing.cost-metrics-interval:PT5M}")
+    public void refresh() {
+        try {
+            List<MultiGauge.Row<?>> rows = userRepository.countByHashCost().stream()
+                    .<MultiGauge.Row<?>>map(row -> MultiGauge.Row.of(
+                            Tags.of("cost", row.getCost() != null ? row.getCost() : "unknown"), row.getUsers()))
+                    .toList();
+            usersByCost.register(rows, true);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh password hash cost metrics", ex);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.msa.identity.security;
+
+import com.msa.identity.config.PasswordHashingProperties;
+import com.msa.identity.web.exception.LoginCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this(passwordEncoder, properties.resolveThreads(), properties.getQueueCapacity(), meterRegistry);
+    }
+
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        AtomicInteger sequence = new AtomicInteger();
+        // BCrypt는 CPU 바운드라 코어 수만큼만 돌리고, 넘치는 요청은 큐 한도에서 바로 거절한다.
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("identity.password.hash.queue", executor, pool -> pool.getQueue().size())
+                .description("Password verifications waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("identity.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password verifications currently hashing")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("identity.password.hash.duration")
+                .description("Time spent in PasswordEncoder.matches")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("identity.password.hash.wait")
+                .description("Time a password verification waited in the queue")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("identity.password.hash.rejected")
+                .description("Password verifications rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호가 맞고 저장된 해시의 비용이 현재 설정과 다르면, 같은 작업 스레드에서 새 해시까지 만들어 돌려준다.
+     */
+    public CompletableFuture<Verification> verify(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return new Verification(false, null);
+            }
+            String rehashed = passwordEncoder.upgradeEncoding(encodedPassword)
+                    ? passwordEncoder.encode(rawPassword)
+                    : null;
+            return new Verification(true, rehashed);
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.get();
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            }, executor);
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(new LoginCapacityExceededException());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    public record Verification(boolean matches, String rehashedPassword) {
+    }
+}
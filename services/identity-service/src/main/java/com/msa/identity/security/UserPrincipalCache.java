@@ -0,0 +1,99 @@
+package com.msa.identity.security;
+
+import com.msa.identity.config.PrincipalCacheProperties;
+import com.msa.identity.domain.User;
+import com.msa.identity.domain.UserRole;
+import com.msa.identity.domain.UserStatus;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class UserPrincipalCache {
+
+    private final ConcurrentHashMap<String, CachedPrincipal> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    @Autowired
+    public UserPrincipalCache(PrincipalCacheProperties properties) {
+        this(properties.getTtl(), properties.getMaxEntries(), Clock.systemUTC());
+    }
+
+    public UserPrincipalCache(Duration ttl, int maxEntries, Clock clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public CachedPrincipal get(String email) {
+        if (ttlMillis <= 0) {
+            return null;
+        }
+        CachedPrincipal cached = entries.get(email);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAtMillis() <= clock.millis()) {
+            entries.remove(email, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    public CachedPrincipal put(User user) {
+        CachedPrincipal principal = new CachedPrincipal(user.getEmail(), user.getPasswordHash(), user.getRole(),
+                user.getStatus(), clock.millis() + ttlMillis);
+        if (ttlMillis <= 0 || maxEntries <= 0) {
+            return principal;
+        }
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(principal.email(), principal);
+        return principal;
+    }
+
+    /**
+     * 상태 변경이 커밋되기 전에 다른 요청이 이전 상태를 다시 캐시할 수 있으므로 커밋 후에 한 번 더 비운다.
+     */
+    public void evict(String email) {
+        entries.remove(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entries.remove(email);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired() {
+        long now = clock.millis();
+        Iterator<Map.Entry<String, CachedPrincipal>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().expiresAtMillis() <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public record CachedPrincipal(
+            String email, String passwordHash, UserRole role, UserStatus status, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.msa.identity.web;
+
+import com.msa.identity.application.MemberReconciliationReport;
+import com.msa.identity.application.MemberReconciliationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/reconciliation")
+public class AdminReconciliationController {
+
+    private final MemberReconciliationService reconciliationService;
+
+    public AdminReconciliationController(MemberReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    @PostMapping("/members")
+    public ResponseEntity<MemberReconciliationReport> reconcileMembers() {
+        return ResponseEntity.ok(reconciliationService.reconcile());
+    }
+}
@@ -1,6 +1,10 @@
 package com.msa.identity.web;
 
+import com.msa.identity.application.UserCursorPage;
 import com.msa.identity.application.UserQueryService;
+import com.msa.identity.application.paging.CountedPage;
+import com.msa.identity.domain.User;
+import com.msa.identity.web.response.CursorPageResponse;
 import com.msa.identity.web.response.PageResponse;
 import com.msa.identity.web.response.UserSummaryResponse;
 import com.msa.identity.application.AdminUserService;
@@ -37,20 +41,36 @@ public class AdminUserController {
     ) {
         PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<UserSummaryResponse> result = userQueryService.listUsers(pageable)
-                .map(user -> new UserSummaryResponse(
-                        user.getId(),
-                        user.getEmail(),
-                        user.getRole().name(),
-                        user.getStatus().name(),
-                        user.getCreatedAt()
-                ));
+                .map(AdminUserController::toSummary);
 
         PageResponse<UserSummaryResponse> response = new PageResponse<>(
                 result.getContent(),
                 result.getNumber(),
                 result.getSize(),
                 result.getTotalElements(),
-                result.getTotalPages()
+                result.getTotalPages(),
+                CountedPage.isTotalExact(result)
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 커서 모드: {@code ?after=<cursor>&size=}. 첫 페이지는 {@code after}를 비워 요청한다.
+     * {@code withTotal=false}면 전체 건수 count 쿼리를 생략한다.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPageResponse<UserSummaryResponse>> listUsersAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        UserCursorPage result = userQueryService.listUsersAfter(after, pageSize, withTotal);
+        CursorPageResponse<UserSummaryResponse> response = new CursorPageResponse<>(
+                result.users().stream().map(AdminUserController::toSummary).toList(),
+                pageSize,
+                result.nextCursor(),
+                result.totalElements()
         );
         return ResponseEntity.ok(response);
     }
@@ -69,4 +89,14 @@ public class AdminUserController {
                 updated.getCreatedAt()
         ));
     }
+
+    private static UserSummaryResponse toSummary(User user) {
+        return new UserSummaryResponse(
+                user.getId(),
+                user.getEmail(),
+                user.getRole().name(),
+                user.getStatus().name(),
+                user.getCreatedAt()
+        );
+    }
 }
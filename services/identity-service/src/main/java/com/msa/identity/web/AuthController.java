@@ -9,7 +9,9 @@ import com.msa.identity.web.request.LoginRequest;
 import com.msa.identity.web.request.SignupRequest;
 import com.msa.identity.web.response.AuthResponse;
 import com.msa.identity.web.response.SignupResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -42,8 +44,11 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        AuthResponse response = authUseCase.login(new LoginCommand(request.email(), request.password()));
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(
+            @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        // X-Forwarded-For는 server.tomcat.remoteip.internal-proxies에 지정한 게이트웨이 주소에서 온 요청만 반영된다.
+        // 직접 호출한 클라이언트가 헤더로 IP를 바꿔 가며 IP 단위 한도를 피하지 못하게 하기 위함이다.
+        return authUseCase.login(new LoginCommand(request.email(), request.password(), httpRequest.getRemoteAddr()))
+                .thenApply(ResponseEntity::ok);
     }
 }
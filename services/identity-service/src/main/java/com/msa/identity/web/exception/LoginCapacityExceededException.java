@@ -0,0 +1,7 @@
+package com.msa.identity.web.exception;
+
+public class LoginCapacityExceededException extends RuntimeException {
+    public LoginCapacityExceededException() {
+        super("로그인 요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+}
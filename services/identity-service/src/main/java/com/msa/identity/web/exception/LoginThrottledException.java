@@ -0,0 +1,15 @@
+package com.msa.identity.web.exception;
+
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("로그인 실패가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
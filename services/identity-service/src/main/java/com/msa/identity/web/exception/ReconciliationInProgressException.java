@@ -0,0 +1,7 @@
+package com.msa.identity.web.exception;
+
+public class ReconciliationInProgressException extends RuntimeException {
+    public ReconciliationInProgressException() {
+        super("정합성 점검이 이미 실행 중입니다.");
+    }
+}
@@ -0,0 +1,11 @@
+package com.msa.identity.web.response;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        Long totalElements
+) {
+}
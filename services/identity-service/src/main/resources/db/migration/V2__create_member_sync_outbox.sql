@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS ${member_sync_outbox_table} (
+    id BIGSERIAL PRIMARY KEY,
+    email VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    delivered_at TIMESTAMPTZ,
+    -- 재시도 한도를 넘었거나 member-service가 거부한 행은 parked_at을 채워 디스패처 대상에서 제외한다.
+    parked_at TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS idx_member_sync_outbox_pending
+    ON ${member_sync_outbox_table} (next_attempt_at, id)
+    WHERE delivered_at IS NULL AND parked_at IS NULL;
@@ -0,0 +1,6 @@
+-- 여러 인스턴스에서 같은 예약 작업이 동시에 돌지 않도록 작업 이름별 임대 잠금을 둔다.
+CREATE TABLE IF NOT EXISTS ${job_lock_table} (
+    name VARCHAR(100) PRIMARY KEY,
+    locked_until TIMESTAMPTZ NOT NULL,
+    locked_by VARCHAR(64) NOT NULL
+);
@@ -0,0 +1,2 @@
+-- 관리자 사용자 목록 키셋 페이지네이션((created_at, id) 내림차순 탐색)용 인덱스
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON ${user_table} (created_at DESC, id DESC);
@@ -8,6 +8,9 @@ import com.msa.identity.domain.User;
 import com.msa.identity.domain.UserRepository;
 import com.msa.identity.domain.UserRole;
 import com.msa.identity.domain.UserStatus;
+import com.msa.identity.security.UserPrincipalCache;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,11 +24,13 @@ class AdminUserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    private UserPrincipalCache principalCache;
     private AdminUserService adminUserService;
 
     @BeforeEach
     void setUp() {
-        adminUserService = new AdminUserService(userRepository);
+        principalCache = new UserPrincipalCache(Duration.ofSeconds(30), 100, Clock.systemUTC());
+        adminUserService = new AdminUserService(userRepository, principalCache);
     }
 
     @Test
@@ -38,6 +43,17 @@ class AdminUserServiceTest {
         assertThat(updated.getStatus()).isEqualTo(UserStatus.BLOCKED);
     }
 
+    @Test
+    void updateStatus_evicts_cached_principal() {
+        User user = new User("user@example.com", "pw", UserRole.USER, UserStatus.ACTIVE);
+        principalCache.put(user);
+        given(userRepository.findByEmail("user@example.com")).willReturn(Optional.of(user));
+
+        adminUserService.updateStatus("user@example.com", "BLOCKED");
+
+        assertThat(principalCache.get("user@example.com")).isNull();
+    }
+
     @Test
     void updateStatus_throws_when_user_missing() {
         given(userRepository.findByEmail("missing@example.com")).willReturn(Optional.empty());
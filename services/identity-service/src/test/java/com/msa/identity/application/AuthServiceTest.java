@@ -2,18 +2,31 @@ package com.msa.identity.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.msa.identity.application.command.LoginCommand;
+import com.msa.identity.config.LoginThrottleProperties;
 import com.msa.identity.domain.User;
 import com.msa.identity.domain.UserRepository;
 import com.msa.identity.domain.UserRole;
 import com.msa.identity.domain.UserStatus;
+import com.msa.identity.security.AdaptiveBCryptPasswordEncoder;
+import com.msa.identity.security.InMemoryLoginAttemptStore;
 import com.msa.identity.security.JwtProvider;
+import com.msa.identity.security.LoginThrottle;
+import com.msa.identity.security.PasswordVerifier;
 import com.msa.identity.web.exception.BlockedUserException;
 import com.msa.identity.web.exception.InvalidCredentialsException;
+import com.msa.identity.web.exception.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,53 +45,101 @@ class AuthServiceTest {
     private JwtProvider jwtProvider;
 
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private PasswordVerifier passwordVerifier;
+    private LoginThrottle loginThrottle;
     private AuthService authService;
 
     @BeforeEach
     void setUp() {
-        authService = new AuthService(userRepository, passwordEncoder, jwtProvider);
+        passwordVerifier = new PasswordVerifier(passwordEncoder, 2, 8, new SimpleMeterRegistry());
+        LoginThrottleProperties throttleProperties = new LoginThrottleProperties();
+        throttleProperties.setMaxFailuresPerEmail(2);
+        loginThrottle = new LoginThrottle(throttleProperties,
+                new InMemoryLoginAttemptStore(throttleProperties.getWindow(), 100), new SimpleMeterRegistry());
+        authService = new AuthService(userRepository, passwordVerifier, jwtProvider, loginThrottle);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordVerifier.destroy();
     }
 
     @Test
     void login_returns_token_when_credentials_valid() {
-        LoginCommand command = new LoginCommand("user@example.com", "password123");
+        LoginCommand command = new LoginCommand("user@example.com", "password123", "10.0.0.1");
         User user = new User(command.email(), passwordEncoder.encode(command.password()), UserRole.ADMIN, UserStatus.ACTIVE);
         given(userRepository.findByEmail(command.email())).willReturn(Optional.of(user));
         given(jwtProvider.generateToken(user.getEmail(), user.getRole())).willReturn("issued-token");
 
-        var response = authService.login(command);
+        var response = authService.login(command).join();
 
         assertThat(response.token()).isEqualTo("issued-token");
         assertThat(response.email()).isEqualTo(command.email());
         verify(jwtProvider).generateToken(command.email(), user.getRole());
     }
 
+    @Test
+    void login_rehashes_password_when_cost_is_lower() {
+        passwordVerifier.destroy();
+        passwordVerifier = new PasswordVerifier(new AdaptiveBCryptPasswordEncoder(5), 2, 8, new SimpleMeterRegistry());
+        authService = new AuthService(userRepository, passwordVerifier, jwtProvider, loginThrottle);
+        LoginCommand command = new LoginCommand("user@example.com", "password123", "10.0.0.1");
+        String legacyHash = new BCryptPasswordEncoder(4).encode(command.password());
+        User user = new User(command.email(), legacyHash, UserRole.USER, UserStatus.ACTIVE);
+        given(userRepository.findByEmail(command.email())).willReturn(Optional.of(user));
+        given(jwtProvider.generateToken(user.getEmail(), user.getRole())).willReturn("issued-token");
+
+        authService.login(command).join();
+
+        verify(userRepository).updatePasswordHash(
+                eq(user.getId()), eq(legacyHash), startsWith("$2a$05$"), any());
+    }
+
     @Test
     void login_throws_when_user_not_found() {
-        LoginCommand command = new LoginCommand("missing@example.com", "password123");
+        LoginCommand command = new LoginCommand("missing@example.com", "password123", "10.0.0.1");
         given(userRepository.findByEmail(command.email())).willReturn(Optional.empty());
 
-        assertThatThrownBy(() -> authService.login(command))
-                .isInstanceOf(InvalidCredentialsException.class);
+        assertThatThrownBy(() -> authService.login(command).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InvalidCredentialsException.class);
     }
 
     @Test
     void login_throws_when_password_invalid() {
-        LoginCommand command = new LoginCommand("user@example.com", "password123");
+        LoginCommand command = new LoginCommand("user@example.com", "password123", "10.0.0.1");
         User user = new User(command.email(), passwordEncoder.encode("otherPassword"), UserRole.USER, UserStatus.ACTIVE);
         given(userRepository.findByEmail(command.email())).willReturn(Optional.of(user));
 
-        assertThatThrownBy(() -> authService.login(command))
-                .isInstanceOf(InvalidCredentialsException.class);
+        assertThatThrownBy(() -> authService.login(command).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InvalidCredentialsException.class);
     }
 
     @Test
     void login_throws_when_user_blocked() {
-        LoginCommand command = new LoginCommand("blocked@example.com", "password123");
+        LoginCommand command = new LoginCommand("blocked@example.com", "password123", "10.0.0.1");
         User user = new User(command.email(), passwordEncoder.encode(command.password()), UserRole.USER, UserStatus.BLOCKED);
         given(userRepository.findByEmail(command.email())).willReturn(Optional.of(user));
 
-        assertThatThrownBy(() -> authService.login(command))
-                .isInstanceOf(BlockedUserException.class);
+        assertThatThrownBy(() -> authService.login(command).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BlockedUserException.class);
+    }
+
+    @Test
+    void login_rejects_before_lookup_after_repeated_failures() {
+        LoginCommand command = new LoginCommand("missing@example.com", "password123", "10.0.0.1");
+        given(userRepository.findByEmail(command.email())).willReturn(Optional.empty());
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> authService.login(command).join())
+                    .hasCauseInstanceOf(InvalidCredentialsException.class);
+        }
+
+        LoginCommand retry = new LoginCommand("Missing@Example.com", "password123", "10.0.0.2");
+        assertThatThrownBy(() -> authService.login(retry).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(LoginThrottledException.class);
+        verify(userRepository, never()).findByEmail(retry.email());
     }
 }
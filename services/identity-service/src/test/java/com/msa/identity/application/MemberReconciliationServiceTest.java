@@ -0,0 +1,98 @@
+package com.msa.identity.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.msa.identity.config.MemberReconciliationProperties;
+import com.msa.identity.domain.JobLockRepository;
+import com.msa.identity.domain.UserRepository;
+import com.msa.identity.integration.MemberSyncClient;
+import com.msa.identity.web.exception.ReconciliationInProgressException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MemberReconciliationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MemberSyncClient memberSyncClient;
+
+    @Mock
+    private JobLockRepository jobLockRepository;
+
+    private MemberReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        MemberReconciliationProperties properties = new MemberReconciliationProperties();
+        properties.setPageSize(2);
+        properties.setRepairBatchSize(10);
+        reconciliationService = new MemberReconciliationService(userRepository, memberSyncClient, properties,
+                jobLockRepository);
+    }
+
+    @Test
+    void reconcile_repairs_missing_members_across_pages() {
+        given(jobLockRepository.tryAcquire(eq("member-reconciliation"), any())).willReturn("owner");
+        given(jobLockRepository.renew(eq("member-reconciliation"), eq("owner"), any())).willReturn(true);
+        given(userRepository.findSyncableEmailsAfter("", 2)).willReturn(List.of("a@example.com", "b@example.com"));
+        given(userRepository.findSyncableEmailsAfter("b@example.com", 2)).willReturn(List.of("d@example.com"));
+        given(memberSyncClient.fetchMemberEmails("", 2)).willReturn(List.of("b@example.com", "c@example.com"));
+        given(memberSyncClient.fetchMemberEmails("c@example.com", 2)).willReturn(List.of());
+
+        MemberReconciliationReport report = reconciliationService.reconcile();
+
+        assertThat(report.usersScanned()).isEqualTo(3);
+        assertThat(report.membersScanned()).isEqualTo(2);
+        assertThat(report.matched()).isEqualTo(1);
+        assertThat(report.missingMembers()).isEqualTo(2);
+        assertThat(report.repairedMembers()).isEqualTo(2);
+        assertThat(report.orphanMembers()).isEqualTo(1);
+        verify(memberSyncClient).syncMembers(List.of(
+                new MemberSyncClient.MemberSyncItem("a@example.com", "a"),
+                new MemberSyncClient.MemberSyncItem("d@example.com", "d")));
+        verify(jobLockRepository, times(4)).renew(eq("member-reconciliation"), eq("owner"), any());
+        verify(jobLockRepository).release("member-reconciliation", "owner");
+    }
+
+    @Test
+    void reconcile_stops_when_lease_is_lost() {
+        given(jobLockRepository.tryAcquire(eq("member-reconciliation"), any())).willReturn("owner");
+        given(jobLockRepository.renew(eq("member-reconciliation"), eq("owner"), any())).willReturn(false);
+
+        assertThatThrownBy(() -> reconciliationService.reconcile())
+                .isInstanceOf(ReconciliationInProgressException.class);
+
+        verifyNoInteractions(userRepository, memberSyncClient);
+    }
+
+    @Test
+    void reconcile_skips_when_another_instance_holds_the_lock() {
+        given(jobLockRepository.tryAcquire(eq("member-reconciliation"), any())).willReturn(null);
+
+        assertThatThrownBy(() -> reconciliationService.reconcile())
+                .isInstanceOf(ReconciliationInProgressException.class);
+
+        verifyNoInteractions(userRepository, memberSyncClient);
+    }
+
+    @Test
+    void compareCodePoints_orders_like_c_collation() {
+        assertThat(MemberReconciliationService.compareCodePoints("a", "b")).isNegative();
+        assertThat(MemberReconciliationService.compareCodePoints("ab", "a")).isPositive();
+        assertThat(MemberReconciliationService.compareCodePoints("￿", "😀")).isNegative();
+    }
+}
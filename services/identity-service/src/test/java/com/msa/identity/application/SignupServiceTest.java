@@ -9,7 +9,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
 
 import com.msa.identity.application.command.SignupCommand;
+import com.msa.identity.application.paging.TotalCounter;
 import com.msa.identity.application.port.MemberSyncPort;
+import com.msa.identity.config.PagingProperties;
 import com.msa.identity.domain.User;
 import com.msa.identity.domain.UserFactory;
 import com.msa.identity.domain.UserRepository;
@@ -22,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -41,7 +44,8 @@ class SignupServiceTest {
 
     @BeforeEach
     void setUp() {
-        signupService = new SignupService(userRepository, passwordEncoder, memberSyncPort, userFactory);
+        signupService = new SignupService(userRepository, passwordEncoder, memberSyncPort, userFactory,
+                new TotalCounter(new PagingProperties(), new JdbcTemplate()));
     }
 
     @Test
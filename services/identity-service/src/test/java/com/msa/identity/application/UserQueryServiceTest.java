@@ -0,0 +1,121 @@
+package com.msa.identity.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.msa.identity.application.paging.CountedPage;
+import com.msa.identity.application.paging.CountMode;
+import com.msa.identity.application.paging.TotalCounter;
+import com.msa.identity.config.PagingProperties;
+import com.msa.identity.domain.User;
+import com.msa.identity.domain.UserRepository;
+import com.msa.identity.domain.UserRole;
+import com.msa.identity.domain.UserStatus;
+import com.msa.identity.web.exception.InvalidCursorException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserQueryServiceTest {
+
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_000, ZoneOffset.UTC);
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserQueryService userQueryService;
+
+    @BeforeEach
+    void setUp() {
+        PagingProperties pagingProperties = new PagingProperties();
+        pagingProperties.setMode(CountMode.EXACT);
+        userQueryService = new UserQueryService(userRepository,
+                new TotalCounter(pagingProperties, new JdbcTemplate()));
+    }
+
+    @Test
+    void listUsers_skips_count_when_first_page_is_not_full() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        User user = user("a@example.com", BASE);
+        given(userRepository.findAllBy(pageable)).willReturn(List.of(user));
+
+        Page<User> page = userQueryService.listUsers(pageable);
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(CountedPage.isTotalExact(page)).isTrue();
+        verify(userRepository, never()).count();
+    }
+
+    @Test
+    void listUsers_counts_when_page_is_full() {
+        PageRequest pageable = PageRequest.of(0, 1);
+        User user = user("a@example.com", BASE);
+        given(userRepository.findAllBy(pageable)).willReturn(List.of(user));
+        given(userRepository.count()).willReturn(5L);
+
+        Page<User> page = userQueryService.listUsers(pageable);
+
+        assertThat(page.getTotalPages()).isEqualTo(5);
+    }
+
+    @Test
+    void listUsersAfter_returns_next_cursor_from_last_row_when_more_rows_exist() {
+        User first = user("a@example.com", BASE.plusSeconds(2));
+        User second = user("b@example.com", BASE.plusSeconds(1));
+        User third = user("c@example.com", BASE);
+        given(userRepository.findFirstByCreatedAtDesc(3)).willReturn(List.of(first, second, third));
+
+        UserCursorPage page = userQueryService.listUsersAfter(null, 2, false);
+
+        assertThat(page.users()).containsExactly(first, second);
+        assertThat(UserCursor.decode(page.nextCursor())).isEqualTo(UserCursor.of(second));
+        assertThat(page.totalElements()).isNull();
+        verify(userRepository, never()).count();
+    }
+
+    @Test
+    void listUsersAfter_seeks_from_decoded_cursor() {
+        User previous = user("a@example.com", BASE);
+        User next = user("b@example.com", BASE.minusSeconds(1));
+        UserCursor cursor = UserCursor.of(previous);
+        given(userRepository.findNextByCreatedAtDesc(cursor.createdAt(), cursor.id(), 3)).willReturn(List.of(next));
+        given(userRepository.count()).willReturn(2L);
+
+        UserCursorPage page = userQueryService.listUsersAfter(cursor.encode(), 2, true);
+
+        assertThat(page.users()).containsExactly(next);
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.totalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    void listUsersAfter_rejects_malformed_cursor() {
+        assertThatThrownBy(() -> userQueryService.listUsersAfter("not-a-cursor", 10, false))
+                .isInstanceOf(InvalidCursorException.class);
+        verify(userRepository, never()).findNextByCreatedAtDesc(
+                any(), any(), anyInt());
+    }
+
+    private User user(String email, OffsetDateTime createdAt) {
+        User user = new User(email, "pw", UserRole.USER, UserStatus.ACTIVE);
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(user, "createdAt", createdAt);
+        return user;
+    }
+}
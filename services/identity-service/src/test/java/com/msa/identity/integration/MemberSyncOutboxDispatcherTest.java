@@ -0,0 +1,155 @@
+package com.msa.identity.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.msa.identity.config.MemberSyncOutboxProperties;
+import com.msa.identity.domain.MemberSyncOutbox;
+import com.msa.identity.domain.MemberSyncOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSyncOutboxDispatcherTest {
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @Mock
+    private MemberSyncOutboxRepository outboxRepository;
+
+    @Mock
+    private MemberSyncClient memberSyncClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MemberSyncOutboxProperties properties;
+    private MemberSyncOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MemberSyncOutboxProperties();
+        dispatcher = new MemberSyncOutboxDispatcher(outboxRepository, memberSyncClient,
+                properties, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void dispatchBatch_marks_rows_delivered_on_success() {
+        MemberSyncOutbox row = row("user@example.com");
+        givenDue(List.of(row));
+        given(memberSyncClient.syncMembers(any())).willReturn(Set.of("user@example.com"));
+
+        int claimed = dispatcher.dispatchBatch();
+
+        assertThat(claimed).isEqualTo(1);
+        assertThat(row.getDeliveredAt()).isNotNull();
+        verify(memberSyncClient).syncMembers(List.of(new MemberSyncClient.MemberSyncItem("user@example.com", "user")));
+    }
+
+    @Test
+    void dispatchBatch_leases_rows_before_sending() {
+        MemberSyncOutbox row = row("user@example.com");
+        givenDue(List.of(row));
+        OffsetDateTime leaseFloor = OffsetDateTime.now().plus(properties.getLeaseDuration()).minusSeconds(1);
+        given(memberSyncClient.syncMembers(any())).willAnswer(invocation -> {
+            assertThat(row.getNextAttemptAt()).isAfter(leaseFloor);
+            return Set.of("user@example.com");
+        });
+
+        dispatcher.dispatchBatch();
+
+        assertThat(row.getDeliveredAt()).isNotNull();
+    }
+
+    @Test
+    void dispatchBatch_schedules_retry_with_backoff_on_failure() {
+        MemberSyncOutbox row = row("user@example.com");
+        givenDue(List.of(row));
+        given(memberSyncClient.syncMembers(any())).willThrow(new ResourceAccessException("connection refused"));
+
+        dispatcher.dispatchBatch();
+
+        assertThat(row.getDeliveredAt()).isNull();
+        assertThat(row.getParkedAt()).isNull();
+        assertThat(row.getAttempts()).isEqualTo(1);
+        assertThat(row.getLastError()).contains("connection refused");
+        assertThat(row.getNextAttemptAt()).isAfter(OffsetDateTime.now());
+    }
+
+    @Test
+    void dispatchBatch_parks_only_rejected_row_and_delivers_the_rest() {
+        List<MemberSyncOutbox> rows = List.of(
+                row("a@example.com"), row("b@example.com"), row("not-an-email"), row("d@example.com"));
+        givenDue(rows);
+        given(memberSyncClient.syncMembers(any())).willAnswer(invocation -> {
+            List<MemberSyncClient.MemberSyncItem> items = invocation.getArgument(0);
+            if (items.stream().anyMatch(item -> item.email().equals("not-an-email"))) {
+                throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null);
+            }
+            return items.stream().map(MemberSyncClient.MemberSyncItem::email).collect(Collectors.toSet());
+        });
+
+        dispatcher.dispatchBatch();
+
+        assertThat(rows.get(2).getParkedAt()).isNotNull();
+        assertThat(rows.get(2).getDeliveredAt()).isNull();
+        assertThat(List.of(rows.get(0), rows.get(1), rows.get(3)))
+                .allSatisfy(row -> assertThat(row.getDeliveredAt()).isNotNull());
+    }
+
+    @Test
+    void dispatchBatch_retries_rows_missing_from_results() {
+        MemberSyncOutbox delivered = row("a@example.com");
+        MemberSyncOutbox missing = row("b@example.com");
+        givenDue(List.of(delivered, missing));
+        given(memberSyncClient.syncMembers(any())).willReturn(Set.of("a@example.com"));
+
+        dispatcher.dispatchBatch();
+
+        assertThat(delivered.getDeliveredAt()).isNotNull();
+        assertThat(missing.getDeliveredAt()).isNull();
+        assertThat(missing.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchBatch_parks_row_after_max_attempts() {
+        properties.setMaxAttempts(2);
+        MemberSyncOutbox row = row("user@example.com");
+        row.scheduleRetry(OffsetDateTime.now(), "earlier failure");
+        givenDue(List.of(row));
+        given(memberSyncClient.syncMembers(any())).willThrow(new ResourceAccessException("connection refused"));
+
+        dispatcher.dispatchBatch();
+
+        assertThat(row.getAttempts()).isEqualTo(2);
+        assertThat(row.getParkedAt()).isNotNull();
+    }
+
+    private MemberSyncOutbox row(String email) {
+        MemberSyncOutbox row = new MemberSyncOutbox(email, "user");
+        ReflectionTestUtils.setField(row, "id", ids.incrementAndGet());
+        return row;
+    }
+
+    private void givenDue(List<MemberSyncOutbox> rows) {
+        given(outboxRepository.lockDueBatch(any(), anyInt())).willReturn(rows);
+        given(outboxRepository.findAllById(any())).willReturn(rows);
+    }
+}
@@ -0,0 +1,32 @@
+package com.msa.identity.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+    @Test
+    void upgradeEncoding_only_raises_cost() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password123"))).isFalse();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password123"))).isFalse();
+    }
+
+    @Test
+    void costOf_reads_bcrypt_cost() {
+        assertThat(AdaptiveBCryptPasswordEncoder.costOf("$2a$10$abcdefghijklmnopqrstuv")).isEqualTo(10);
+        assertThat(AdaptiveBCryptPasswordEncoder.costOf("plain")).isEqualTo(-1);
+    }
+
+    @Test
+    void calibrate_stays_within_bounds() {
+        AdaptiveBCryptPasswordEncoder encoder = AdaptiveBCryptPasswordEncoder.calibrate(1, 4, 6);
+
+        assertThat(encoder.getStrength()).isBetween(4, 6);
+        assertThat(encoder.matches("password123", encoder.encode("password123"))).isTrue();
+    }
+}
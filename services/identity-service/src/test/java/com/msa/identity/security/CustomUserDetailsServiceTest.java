@@ -0,0 +1,66 @@
+package com.msa.identity.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.msa.identity.domain.User;
+import com.msa.identity.domain.UserRepository;
+import com.msa.identity.domain.UserRole;
+import com.msa.identity.domain.UserStatus;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserPrincipalCache principalCache;
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        principalCache = new UserPrincipalCache(Duration.ofSeconds(30), 100, clock);
+        userDetailsService = new CustomUserDetailsService(userRepository, principalCache);
+    }
+
+    @Test
+    void loadUserByUsername_uses_cached_principal() {
+        User user = new User("user@example.com", "pw", UserRole.USER, UserStatus.ACTIVE);
+        given(userRepository.findByEmail("user@example.com")).willReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("user@example.com");
+        UserDetails details = userDetailsService.loadUserByUsername("user@example.com");
+
+        assertThat(details.getUsername()).isEqualTo("user@example.com");
+        assertThat(details.isAccountNonLocked()).isTrue();
+        verify(userRepository, times(1)).findByEmail("user@example.com");
+    }
+
+    @Test
+    void loadUserByUsername_reloads_after_evict() {
+        User user = new User("user@example.com", "pw", UserRole.USER, UserStatus.ACTIVE);
+        given(userRepository.findByEmail("user@example.com")).willReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername("user@example.com");
+
+        user.setStatus(UserStatus.BLOCKED);
+        principalCache.evict("user@example.com");
+        UserDetails details = userDetailsService.loadUserByUsername("user@example.com");
+
+        assertThat(details.isAccountNonLocked()).isFalse();
+        verify(userRepository, times(2)).findByEmail("user@example.com");
+    }
+}
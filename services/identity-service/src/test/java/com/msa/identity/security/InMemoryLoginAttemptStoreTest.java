@@ -0,0 +1,113 @@
+package com.msa.identity.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class InMemoryLoginAttemptStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    };
+
+    @Test
+    void failures_slide_out_of_window() {
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(Duration.ofSeconds(10), 100, clock);
+
+        store.recordFailure("email:a");
+        now.addAndGet(5_000);
+        assertThat(store.recordFailure("email:a")).isEqualTo(2);
+
+        now.addAndGet(6_000);
+        assertThat(store.failures("email:a")).isEqualTo(1);
+
+        now.addAndGet(5_000);
+        assertThat(store.failures("email:a")).isZero();
+    }
+
+    @Test
+    void reset_clears_failures() {
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(Duration.ofSeconds(10), 100, clock);
+        store.recordFailure("email:a");
+
+        store.reset("email:a");
+
+        assertThat(store.failures("email:a")).isZero();
+    }
+
+    @Test
+    void evicts_idle_keys_but_keeps_active_ones_when_full() {
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(Duration.ofSeconds(10), 2, clock);
+        store.recordFailure("ip:1");
+        now.addAndGet(20_000);
+        store.recordFailure("ip:2");
+
+        store.recordFailure("ip:3");
+        store.recordFailure("ip:4");
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.failures("ip:2")).isEqualTo(1);
+        assertThat(store.failures("ip:3")).isEqualTo(1);
+        assertThat(store.failures("ip:4")).isEqualTo(InMemoryLoginAttemptStore.SATURATED);
+    }
+
+    @Test
+    void blocks_new_email_when_full_of_active_keys_but_keeps_tracking_ips() {
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(Duration.ofSeconds(10), 1_000, clock);
+        for (int i = 0; i < 1_000; i++) {
+            store.recordFailure("email:junk" + i);
+        }
+
+        assertThat(store.failures("email:victim@example.com")).isGreaterThanOrEqualTo(5);
+        assertThat(store.recordFailure("email:victim@example.com")).isGreaterThanOrEqualTo(5);
+
+        assertThat(store.recordFailure("ip:10.0.0.1")).isEqualTo(1);
+        assertThat(store.recordFailure("ip:10.0.0.1")).isEqualTo(2);
+
+        now.addAndGet(11_000);
+        assertThat(store.failures("email:victim@example.com")).isZero();
+    }
+
+    @Test
+    void sweeps_at_most_once_per_slot_when_full_of_active_keys() {
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(Duration.ofSeconds(10), 1_000, clock);
+        for (int i = 0; i < 1_000; i++) {
+            store.recordFailure("email:active" + i);
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(store.recordFailure("email:spray" + i)).isEqualTo(InMemoryLoginAttemptStore.SATURATED);
+        }
+
+        assertThat(store.sweepCount()).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1_000);
+
+        now.addAndGet(1_000);
+        for (int i = 0; i < 100_000; i++) {
+            store.recordFailure("email:next" + i);
+        }
+
+        assertThat(store.sweepCount()).isEqualTo(2);
+        assertThat(store.failures("email:active0")).isEqualTo(1);
+    }
+}
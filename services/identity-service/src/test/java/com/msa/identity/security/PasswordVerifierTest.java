@@ -0,0 +1,63 @@
+package com.msa.identity.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.msa.identity.web.exception.LoginCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordVerifierTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordVerifier passwordVerifier =
+            new PasswordVerifier(new BlockingPasswordEncoder(release), 1, 1, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordVerifier.destroy();
+    }
+
+    @Test
+    void rejects_when_worker_and_queue_are_full() {
+        CompletableFuture<PasswordVerifier.Verification> running = passwordVerifier.verify("password", "password");
+        CompletableFuture<PasswordVerifier.Verification> queued = passwordVerifier.verify("password", "password");
+
+        CompletableFuture<PasswordVerifier.Verification> rejected = passwordVerifier.verify("password", "password");
+
+        assertThatThrownBy(rejected::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(LoginCapacityExceededException.class);
+        assertThat(meterRegistry.get("identity.password.hash.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.join().matches()).isTrue();
+        assertThat(queued.join().matches()).isTrue();
+        assertThat(meterRegistry.get("identity.password.hash.duration").timer().count()).isEqualTo(2);
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -3,34 +3,59 @@ package com.msa.member.application;
 import com.msa.member.application.command.SearchMembersCommand;
 import com.msa.member.application.command.SyncMemberCommand;
 import com.msa.member.application.command.UpdateMemberStatusCommand;
+import com.msa.member.application.paging.TotalCounter;
 import com.msa.member.application.port.MemberUseCase;
 import com.msa.member.domain.Member;
+import com.msa.member.domain.MemberBulkRepository;
 import com.msa.member.domain.MemberFactory;
 import com.msa.member.domain.MemberRepository;
 import com.msa.member.domain.MemberStatus;
+import com.msa.member.domain.MemberSyncOutcome;
+import com.msa.member.domain.MemberSyncResult;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Locale;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class MemberService implements MemberUseCase {
 
+    static final String MEMBER_TABLE = "members";
+
     private final MemberRepository memberRepository;
     private final MemberFactory memberFactory;
+    private final MemberBulkRepository memberBulkRepository;
+    private final TotalCounter totalCounter;
 
-    public MemberService(MemberRepository memberRepository, MemberFactory memberFactory) {
+    public MemberService(MemberRepository memberRepository,
+                         MemberFactory memberFactory,
+                         MemberBulkRepository memberBulkRepository,
+                         TotalCounter totalCounter) {
         this.memberRepository = memberRepository;
         this.memberFactory = memberFactory;
+        this.memberBulkRepository = memberBulkRepository;
+        this.totalCounter = totalCounter;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<Member> list(SearchMembersCommand command) {
+        Pageable pageable = command.pageable();
         if (command.query() == null || command.query().isBlank()) {
-            return memberRepository.findAll(command.pageable());
+            return totalCounter.page(memberRepository.findAllBy(pageable), pageable, MEMBER_TABLE, null,
+                    memberRepository::count);
         }
-        return memberRepository.search(command.query(), command.pageable());
+        String query = command.query();
+        return totalCounter.page(memberRepository.search(query, pageable), pageable, MEMBER_TABLE,
+                query.toLowerCase(Locale.ROOT), () -> memberRepository.countSearch(query));
     }
 
     @Override
@@ -47,8 +72,46 @@ public class MemberService implements MemberUseCase {
     @Transactional
     public Member upsert(SyncMemberCommand command) {
         return memberRepository.findByEmail(command.email())
-                .orElseGet(() -> memberRepository.save(
-                        memberFactory.createActiveMember(command.email(), command.name())
-                ));
+                .orElseGet(() -> {
+                    Member saved = memberRepository.save(
+                            memberFactory.createActiveMember(command.email(), command.name()));
+                    totalCounter.invalidate(MEMBER_TABLE);
+                    return saved;
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> listEmailsAfter(String after, int limit) {
+        return memberRepository.findEmailsAfter(after != null ? after : "", limit);
+    }
+
+    @Override
+    @Transactional
+    public List<MemberSyncResult> upsertAll(List<SyncMemberCommand> commands) {
+        // 요청 안에서 같은 이메일은 첫 항목만 반영하고, 기존 멤버는 단건 upsert와 같이 변경하지 않는다.
+        Map<String, Member> unique = new LinkedHashMap<>();
+        for (SyncMemberCommand command : commands) {
+            unique.putIfAbsent(command.email(), memberFactory.createActiveMember(command.email(), command.name()));
+        }
+        Set<String> created = memberBulkRepository.insertIgnoringExisting(new ArrayList<>(unique.values()));
+        if (!created.isEmpty()) {
+            totalCounter.invalidate(MEMBER_TABLE);
+        }
+
+        List<MemberSyncResult> results = new ArrayList<>(commands.size());
+        Set<String> seen = new HashSet<>();
+        for (SyncMemberCommand command : commands) {
+            MemberSyncOutcome outcome;
+            if (!seen.add(command.email())) {
+                outcome = MemberSyncOutcome.DUPLICATE;
+            } else if (created.contains(command.email())) {
+                outcome = MemberSyncOutcome.CREATED;
+            } else {
+                outcome = MemberSyncOutcome.EXISTING;
+            }
+            results.add(new MemberSyncResult(command.email(), outcome));
+        }
+        return results;
     }
 }
@@ -0,0 +1,164 @@
+package com.msa.member.application.paging;
+
+import com.msa.member.config.PagingProperties;
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class TotalCounter {
+
+    private static final char KEY_SEPARATOR = '|';
+
+    private final PagingProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, CachedCount> cache = new ConcurrentHashMap<>();
+    // 무효화할 때마다 올라가는 세대. 시작 이후 세대가 바뀐 count는 어느 키였든 캐시하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<String, CachedCount> estimates = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TotalCounter(PagingProperties properties, JdbcTemplate jdbcTemplate) {
+        this(properties, jdbcTemplate, Clock.systemUTC());
+    }
+
+    public TotalCounter(PagingProperties properties, JdbcTemplate jdbcTemplate, Clock clock) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * 페이지 내용만으로 전체 건수가 확정되면(첫 페이지가 덜 찼거나 마지막 페이지) count 없이 만든다.
+     * filterKey가 null이면 필터 없는 전체 목록으로 본다.
+     */
+    public <T> Page<T> page(List<T> content, Pageable pageable, String table, String filterKey,
+                            LongSupplier exactCount) {
+        if (pageable.isPaged() && content.size() < pageable.getPageSize()
+                && (pageable.getOffset() == 0 || !content.isEmpty())) {
+            return new CountedPage<>(content, pageable, pageable.getOffset() + content.size(), true);
+        }
+        Total total = count(table, filterKey, exactCount);
+        return new CountedPage<>(content, pageable, total.value(), total.exact());
+    }
+
+    public Total count(String table, String filterKey, LongSupplier exactCount) {
+        return switch (properties.getMode()) {
+            case EXACT -> new Total(exactCount.getAsLong(), true);
+            case ESTIMATE -> estimateOrCount(table, filterKey, exactCount);
+            case CACHED -> cachedOrCount(table, filterKey, exactCount);
+        };
+    }
+
+    public void invalidate(String table) {
+        invalidate(table, "");
+    }
+
+    /**
+     * 커밋 전에 다른 요청이 이전 건수를 다시 캐시할 수 있으므로 트랜잭션 종료 후에 한 번 더 비운다.
+     */
+    public void invalidate(String table, String filterPrefix) {
+        if (properties.getMode() != CountMode.CACHED) {
+            return;
+        }
+        String prefix = table + KEY_SEPARATOR + filterPrefix;
+        evictPrefix(prefix);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictPrefix(prefix);
+                }
+            });
+        }
+    }
+
+    private Total estimateOrCount(String table, String filterKey, LongSupplier exactCount) {
+        if (filterKey == null) {
+            long estimate = reltuples(table);
+            if (estimate >= properties.getEstimateThreshold()) {
+                return new Total(estimate, false);
+            }
+        }
+        return new Total(exactCount.getAsLong(), true);
+    }
+
+    /**
+     * reltuples는 ANALYZE 때만 바뀌므로 테이블별로 잠시 보관해,
+     * 임계값 미만 테이블에서 목록 요청마다 정확한 count와 함께 pg_class까지 읽지 않게 한다.
+     * 한 번도 ANALYZE되지 않은 테이블은 -1을 돌려주므로 임계값 비교에서 자연히 정확한 count로 넘어간다.
+     */
+    private long reltuples(String table) {
+        long now = clock.millis();
+        CachedCount cached = estimates.get(table);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return cached.value();
+        }
+        Long estimate = jdbcTemplate.queryForObject(
+                "select reltuples::bigint from pg_class where oid = to_regclass(?)", Long.class, table);
+        long value = estimate != null ? estimate : -1;
+        estimates.put(table, new CachedCount(value, now + properties.getEstimateTtl().toMillis(), 0));
+        return value;
+    }
+
+    private Total cachedOrCount(String table, String filterKey, LongSupplier exactCount) {
+        String key = table + KEY_SEPARATOR + (filterKey != null ? filterKey : "");
+        long now = clock.millis();
+        CachedCount cached = cache.get(key);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return new Total(cached.value(), false);
+        }
+        long startedAt = generation.get();
+        long value = exactCount.getAsLong();
+        if (cache.size() >= properties.getCacheMaxEntries()) {
+            evictExpired(now);
+            if (cache.size() >= properties.getCacheMaxEntries()) {
+                cache.clear();
+            }
+        }
+        if (generation.get() != startedAt) {
+            // count 도중 무효화가 있었으면 이전 상태를 센 값일 수 있으므로 캐시하지 않는다.
+            return new Total(value, true);
+        }
+        CachedCount entry = new CachedCount(value, now + properties.getCacheTtl().toMillis(), startedAt);
+        cache.put(key, entry);
+        if (generation.get() != startedAt) {
+            // put 직전에 무효화가 끼어들었으면 그 비우기를 놓쳤을 수 있으므로 직접 되돌린다.
+            cache.remove(key, entry);
+        }
+        return new Total(value, true);
+    }
+
+    private void evictPrefix(String prefix) {
+        // 세대를 먼저 올려야 진행 중인 count가 비우기 이후에 이전 값을 넣지 못한다.
+        generation.incrementAndGet();
+        cache.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, CachedCount>> iterator = cache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().expiresAtMillis() <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public record Total(long value, boolean exact) {
+    }
+
+    private record CachedCount(long value, long expiresAtMillis, long generation) {
+    }
+}
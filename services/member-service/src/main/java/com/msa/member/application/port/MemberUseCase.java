@@ -4,10 +4,14 @@ import com.msa.member.application.command.SearchMembersCommand;
 import com.msa.member.application.command.SyncMemberCommand;
 import com.msa.member.application.command.UpdateMemberStatusCommand;
 import com.msa.member.domain.Member;
+import com.msa.member.domain.MemberSyncResult;
+import java.util.List;
 import org.springframework.data.domain.Page;
 
 public interface MemberUseCase {
     Page<Member> list(SearchMembersCommand command);
     Member updateStatus(UpdateMemberStatusCommand command);
     Member upsert(SyncMemberCommand command);
+    List<MemberSyncResult> upsertAll(List<SyncMemberCommand> commands);
+    List<String> listEmailsAfter(String after, int limit);
 }
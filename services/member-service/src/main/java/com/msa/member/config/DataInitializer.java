@@ -1,40 +1,97 @@
 package com.msa.member.config;
 
-import com.msa.member.domain.Member;
-import com.msa.member.domain.MemberRepository;
 import com.msa.member.domain.MemberStatus;
-import jakarta.annotation.PostConstruct;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class DataInitializer {
 
-    private final MemberRepository memberRepository;
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
 
-    public DataInitializer(MemberRepository memberRepository) {
-        this.memberRepository = memberRepository;
+    private static final String EXISTING_EMAILS_SQL = "select email from members where email = any(?)";
+    private static final String INSERT_SQL = "insert into members (id, email, name, status, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?) on conflict (email) do nothing";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SeedProperties properties;
+
+    public DataInitializer(JdbcTemplate jdbcTemplate, SeedProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
     }
 
-    @PostConstruct
-    @Transactional
-    public void seedMembers() {
-        if (memberRepository.count() >= 100) {
+    // 시드 양이 많아도 기동/readiness를 막지 않도록 준비 완료 후 별도 스레드에서 수행한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
             return;
         }
-        List<Member> batch = new ArrayList<>();
-        for (int i = 1; i <= 100; i++) {
-            String email = String.format("member%03d@example.com", i);
-            if (memberRepository.existsByEmail(email)) {
-                continue;
+        Thread.ofPlatform().name("member-seeder").daemon(true).start(() -> {
+            try {
+                seedMembers();
+            } catch (RuntimeException ex) {
+                log.warn("Member seeding failed", ex);
             }
-            Member m = new Member(email, "사용자" + i, MemberStatus.ACTIVE);
-            batch.add(m);
+        });
+    }
+
+    public void seedMembers() {
+        long start = System.nanoTime();
+        List<String> emails = new ArrayList<>(properties.getCount());
+        for (int i = 1; i <= properties.getCount(); i++) {
+            emails.add(String.format("member%03d@example.com", i));
         }
-        if (!batch.isEmpty()) {
-            memberRepository.saveAll(batch);
+
+        Set<String> existing = existingEmails(emails);
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 1; i <= emails.size(); i++) {
+            if (!existing.contains(emails.get(i - 1))) {
+                missing.add(i);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
         }
+
+        // 배치 전체가 같은 DB 기본 시각을 받으면 created_at 정렬 페이지가 행을 중복/누락하므로
+        // 생성 순서대로 행마다 1µs씩 다른 시각을 준다.
+        OffsetDateTime base = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        jdbcTemplate.batchUpdate(INSERT_SQL, missing, properties.getBatchSize(), (ps, i) -> {
+            OffsetDateTime createdAt = base.plus(i, ChronoUnit.MICROS);
+            ps.setObject(1, UUID.randomUUID());
+            ps.setString(2, emails.get(i - 1));
+            ps.setString(3, "사용자" + i);
+            ps.setString(4, MemberStatus.ACTIVE.name());
+            ps.setObject(5, createdAt);
+            ps.setObject(6, createdAt);
+        });
+        log.info("Seeded {} members in {} ms", missing.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Set<String> existingEmails(List<String> emails) {
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(EXISTING_EMAILS_SQL);
+            Array array = connection.createArrayOf("varchar", emails.toArray(String[]::new));
+            ps.setArray(1, array);
+            return ps;
+        }, rs -> {
+            existing.add(rs.getString(1));
+        });
+        return existing;
     }
 }
@@ -37,6 +37,8 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/v1/members/sync/batch", "/api/v1/members/sync/emails")
+                        .hasAnyRole("ADMIN", "SERVICE")
                         .requestMatchers("/actuator/health", "/api/v1/members/sync").permitAll()
                         .anyRequest().hasAnyRole("ADMIN", "USER")
                 )
@@ -0,0 +1,48 @@
+package com.msa.member.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "seed")
+public class SeedProperties {
+
+    /**
+     * 기동 후 시드 데이터 생성 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 생성할 시드 멤버 수 (성능 환경에서는 100k 등으로 확장)
+     */
+    private int count = 100;
+
+    /**
+     * JDBC 배치 INSERT 크기
+     */
+    private int batchSize = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,60 @@
+package com.msa.member.domain;
+
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class MemberBulkRepository {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    // 배열 파라미터 4개로 한 문장에 최대 CHUNK_SIZE 행을 넣고, 실제로 들어간 이메일만 돌려받는다.
+    private static final String INSERT_IGNORING_EXISTING_SQL =
+            "insert into members (id, email, name, status) "
+                    + "select * from unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[]) "
+                    + "on conflict (email) do nothing "
+                    + "returning email";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 이메일이 중복되지 않는 멤버 목록을 ACTIVE 상태로 삽입하고, 새로 생성된 이메일 집합을 반환한다.
+     */
+    public Set<String> insertIgnoringExisting(List<Member> members) {
+        Set<String> created = new HashSet<>();
+        for (int from = 0; from < members.size(); from += CHUNK_SIZE) {
+            List<Member> chunk = members.subList(from, Math.min(from + CHUNK_SIZE, members.size()));
+            UUID[] ids = new UUID[chunk.size()];
+            String[] emails = new String[chunk.size()];
+            String[] names = new String[chunk.size()];
+            String[] statuses = new String[chunk.size()];
+            for (int i = 0; i < chunk.size(); i++) {
+                Member member = chunk.get(i);
+                ids[i] = UUID.randomUUID();
+                emails[i] = member.getEmail();
+                names[i] = member.getName();
+                statuses[i] = member.getStatus().name();
+            }
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_IGNORING_EXISTING_SQL);
+                ps.setArray(1, connection.createArrayOf("uuid", ids));
+                ps.setArray(2, connection.createArrayOf("varchar", emails));
+                ps.setArray(3, connection.createArrayOf("varchar", names));
+                ps.setArray(4, connection.createArrayOf("varchar", statuses));
+                return ps;
+            }, rs -> {
+                created.add(rs.getString(1));
+            });
+        }
+        return created;
+    }
+}
@@ -1,8 +1,8 @@
 package com.msa.member.domain;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,6 +12,15 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
     boolean existsByEmail(String email);
     Optional<Member> findByEmail(String email);
 
+    List<Member> findAllBy(Pageable pageable);
+
     @Query("select m from Member m where (:q is null or lower(m.email) like lower(concat('%', :q, '%')) or lower(m.name) like lower(concat('%', :q, '%')))")
-    Page<Member> search(@Param("q") String query, Pageable pageable);
+    List<Member> search(@Param("q") String query, Pageable pageable);
+
+    @Query("select count(m) from Member m where (:q is null or lower(m.email) like lower(concat('%', :q, '%')) or lower(m.name) like lower(concat('%', :q, '%')))")
+    long countSearch(@Param("q") String query);
+
+    @Query(value = "select email from members where email collate \"C\" > :after "
+            + "order by email collate \"C\" limit :limit", nativeQuery = true)
+    List<String> findEmailsAfter(@Param("after") String after, @Param("limit") int limit);
 }
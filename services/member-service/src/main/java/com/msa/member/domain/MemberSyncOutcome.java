@@ -0,0 +1,7 @@
+package com.msa.member.domain;
+
+public enum MemberSyncOutcome {
+    CREATED,
+    EXISTING,
+    DUPLICATE
+}
@@ -0,0 +1,4 @@
+package com.msa.member.domain;
+
+public record MemberSyncResult(String email, MemberSyncOutcome outcome) {
+}
@@ -1,6 +1,7 @@
 package com.msa.member.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -11,16 +12,16 @@ import org.springframework.stereotype.Component;
 public class JwtProvider {
 
     private final Key signingKey;
+    private final JwtParser parser;
 
     public JwtProvider(JwtProperties properties) {
         this.signingKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 }
@@ -3,13 +3,22 @@ package com.msa.member.web;
 import com.msa.member.application.command.SearchMembersCommand;
 import com.msa.member.application.command.SyncMemberCommand;
 import com.msa.member.application.command.UpdateMemberStatusCommand;
+import com.msa.member.application.paging.CountedPage;
 import com.msa.member.application.port.MemberUseCase;
+import com.msa.member.domain.MemberSyncOutcome;
+import com.msa.member.domain.MemberSyncResult;
 import com.msa.member.web.request.MemberCreateRequest;
 import com.msa.member.web.request.MemberStatusUpdateRequest;
+import com.msa.member.web.request.MemberSyncBatchRequest;
+import com.msa.member.web.response.MemberEmailPageResponse;
 import com.msa.member.web.response.MemberSummaryResponse;
+import com.msa.member.web.response.MemberSyncBatchResponse;
 import com.msa.member.web.response.PageResponse;
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -53,7 +62,8 @@ public class MemberController {
                 result.getNumber(),
                 result.getSize(),
                 result.getTotalElements(),
-                result.getTotalPages()
+                result.getTotalPages(),
+                CountedPage.isTotalExact(result)
         );
         return ResponseEntity.ok(response);
     }
@@ -84,4 +94,32 @@ public class MemberController {
                 saved.getCreatedAt()
         ));
     }
+
+    @GetMapping("/sync/emails")
+    public ResponseEntity<MemberEmailPageResponse> listEmails(
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+        List<String> emails = memberUseCase.listEmailsAfter(after, Math.min(Math.max(limit, 1), 5000));
+        String nextAfter = emails.isEmpty() ? null : emails.get(emails.size() - 1);
+        return ResponseEntity.ok(new MemberEmailPageResponse(emails, nextAfter));
+    }
+
+    @PostMapping("/sync/batch")
+    public ResponseEntity<MemberSyncBatchResponse> syncMembers(@Valid @RequestBody MemberSyncBatchRequest request) {
+        List<MemberSyncResult> results = memberUseCase.upsertAll(request.members().stream()
+                .map(member -> new SyncMemberCommand(member.email(), member.name()))
+                .toList());
+        Map<MemberSyncOutcome, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(MemberSyncResult::outcome, Collectors.counting()));
+        return ResponseEntity.ok(new MemberSyncBatchResponse(
+                results.size(),
+                counts.getOrDefault(MemberSyncOutcome.CREATED, 0L).intValue(),
+                counts.getOrDefault(MemberSyncOutcome.EXISTING, 0L).intValue(),
+                counts.getOrDefault(MemberSyncOutcome.DUPLICATE, 0L).intValue(),
+                results.stream()
+                        .map(result -> new MemberSyncBatchResponse.Item(result.email(), result.outcome().name()))
+                        .toList()
+        ));
+    }
 }
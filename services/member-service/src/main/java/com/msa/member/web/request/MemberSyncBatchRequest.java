@@ -0,0 +1,11 @@
+package com.msa.member.web.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record MemberSyncBatchRequest(
+        @NotEmpty @Size(max = 5000) List<@Valid MemberCreateRequest> members
+) {
+}
@@ -0,0 +1,9 @@
+package com.msa.member.web.response;
+
+import java.util.List;
+
+public record MemberEmailPageResponse(
+        List<String> emails,
+        String nextAfter
+) {
+}
@@ -0,0 +1,15 @@
+package com.msa.member.web.response;
+
+import java.util.List;
+
+public record MemberSyncBatchResponse(
+        int requested,
+        int created,
+        int existing,
+        int duplicate,
+        List<Item> results
+) {
+
+    public record Item(String email, String outcome) {
+    }
+}
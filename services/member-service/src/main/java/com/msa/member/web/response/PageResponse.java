@@ -7,6 +7,7 @@ public record PageResponse<T>(
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        boolean totalExact
 ) {
 }
@@ -0,0 +1,2 @@
+-- 정합성 점검 작업이 이메일 바이트 순서로 키셋 스캔할 수 있도록 C 콜레이션 인덱스를 둔다.
+CREATE INDEX IF NOT EXISTS idx_members_email_c ON ${member_table} (email COLLATE "C");
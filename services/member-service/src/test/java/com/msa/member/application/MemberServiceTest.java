@@ -11,20 +11,28 @@ import static org.mockito.Mockito.verify;
 import com.msa.member.application.command.SearchMembersCommand;
 import com.msa.member.application.command.SyncMemberCommand;
 import com.msa.member.application.command.UpdateMemberStatusCommand;
+import com.msa.member.application.paging.CountMode;
+import com.msa.member.application.paging.CountedPage;
+import com.msa.member.application.paging.TotalCounter;
+import com.msa.member.config.PagingProperties;
 import com.msa.member.domain.Member;
+import com.msa.member.domain.MemberBulkRepository;
 import com.msa.member.domain.MemberFactory;
 import com.msa.member.domain.MemberRepository;
 import com.msa.member.domain.MemberStatus;
+import com.msa.member.domain.MemberSyncOutcome;
+import com.msa.member.domain.MemberSyncResult;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceTest {
@@ -32,36 +40,83 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberBulkRepository memberBulkRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PagingProperties pagingProperties;
     private MemberService memberService;
 
     @BeforeEach
     void setUp() {
-        memberService = new MemberService(memberRepository, new MemberFactory());
+        pagingProperties = new PagingProperties();
+        memberService = new MemberService(memberRepository, new MemberFactory(), memberBulkRepository,
+                new TotalCounter(pagingProperties, jdbcTemplate));
     }
 
     @Test
     void list_uses_findAll_when_query_blank() {
         var pageable = PageRequest.of(0, 10);
-        Page<Member> page = new PageImpl<>(java.util.List.of());
-        given(memberRepository.findAll(pageable)).willReturn(page);
+        given(memberRepository.findAllBy(pageable)).willReturn(List.of());
 
         var result = memberService.list(new SearchMembersCommand(null, pageable));
 
-        assertThat(result).isEqualTo(page);
-        verify(memberRepository).findAll(pageable);
+        assertThat(result.getTotalElements()).isZero();
+        verify(memberRepository).findAllBy(pageable);
         verify(memberRepository, never()).search(any(), any());
+        verify(memberRepository, never()).count();
     }
 
     @Test
     void list_uses_search_when_query_present() {
-        var pageable = PageRequest.of(0, 10);
-        Page<Member> page = new PageImpl<>(java.util.List.of());
-        given(memberRepository.search(eq("alpha"), eq(pageable))).willReturn(page);
+        var pageable = PageRequest.of(1, 1);
+        Member member = new Member("alpha@example.com", "Alpha", MemberStatus.ACTIVE);
+        given(memberRepository.search(eq("alpha"), eq(pageable))).willReturn(List.of(member));
+        given(memberRepository.countSearch("alpha")).willReturn(3L);
 
         var result = memberService.list(new SearchMembersCommand("alpha", pageable));
 
-        assertThat(result).isEqualTo(page);
-        verify(memberRepository).search("alpha", pageable);
+        assertThat(result.getContent()).containsExactly(member);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(CountedPage.isTotalExact(result)).isTrue();
+    }
+
+    @Test
+    void list_uses_table_estimate_for_large_unfiltered_listing() {
+        pagingProperties.setMode(CountMode.ESTIMATE);
+        pagingProperties.setEstimateThreshold(1_000);
+        var pageable = PageRequest.of(0, 1);
+        Member member = new Member("alpha@example.com", "Alpha", MemberStatus.ACTIVE);
+        given(memberRepository.findAllBy(pageable)).willReturn(List.of(member));
+        given(jdbcTemplate.queryForObject(any(String.class), eq(Long.class), eq("members"))).willReturn(50_000L);
+
+        var result = memberService.list(new SearchMembersCommand(null, pageable));
+
+        assertThat(result.getTotalElements()).isEqualTo(50_000);
+        assertThat(CountedPage.isTotalExact(result)).isFalse();
+        verify(memberRepository, never()).count();
+    }
+
+    @Test
+    void list_reuses_cached_count_until_members_are_created() {
+        pagingProperties.setMode(CountMode.CACHED);
+        var pageable = PageRequest.of(0, 1);
+        Member member = new Member("alpha@example.com", "Alpha", MemberStatus.ACTIVE);
+        given(memberRepository.search(eq("alpha"), eq(pageable))).willReturn(List.of(member));
+        given(memberRepository.countSearch("alpha")).willReturn(3L, 4L);
+
+        var first = memberService.list(new SearchMembersCommand("alpha", pageable));
+        var second = memberService.list(new SearchMembersCommand("alpha", pageable));
+        given(memberBulkRepository.insertIgnoringExisting(any())).willReturn(Set.of("alpha2@example.com"));
+        memberService.upsertAll(List.of(new SyncMemberCommand("alpha2@example.com", "Alpha2")));
+        var third = memberService.list(new SearchMembersCommand("alpha", pageable));
+
+        assertThat(CountedPage.isTotalExact(first)).isTrue();
+        assertThat(second.getTotalElements()).isEqualTo(3);
+        assertThat(CountedPage.isTotalExact(second)).isFalse();
+        assertThat(third.getTotalElements()).isEqualTo(4);
     }
 
     @Test
@@ -109,4 +164,21 @@ class MemberServiceTest {
         assertThat(result.getStatus()).isEqualTo(MemberStatus.ACTIVE);
         verify(memberRepository).save(any(Member.class));
     }
+
+    @Test
+    void upsertAll_reports_created_existing_and_duplicate() {
+        given(memberBulkRepository.insertIgnoringExisting(any())).willReturn(Set.of("new@example.com"));
+
+        List<MemberSyncResult> results = memberService.upsertAll(List.of(
+                new SyncMemberCommand("new@example.com", "new"),
+                new SyncMemberCommand("old@example.com", "old"),
+                new SyncMemberCommand("new@example.com", "again")
+        ));
+
+        assertThat(results).containsExactly(
+                new MemberSyncResult("new@example.com", MemberSyncOutcome.CREATED),
+                new MemberSyncResult("old@example.com", MemberSyncOutcome.EXISTING),
+                new MemberSyncResult("new@example.com", MemberSyncOutcome.DUPLICATE)
+        );
+    }
 }
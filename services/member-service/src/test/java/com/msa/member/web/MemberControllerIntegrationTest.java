@@ -62,7 +62,9 @@ class MemberControllerIntegrationTest {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("seed.enabled", () -> "false");
         registry.add("jwt.secret", () -> TEST_SECRET);
+        registry.add("gateway.identity.secret", () -> "gateway-identity-test-secret-32bytes!");
     }
 
     @Autowired
@@ -133,6 +135,34 @@ class MemberControllerIntegrationTest {
         assertThat(memberRepository.findByEmail("sync@example.com")).isPresent();
     }
 
+    @Test
+    void batch_sync_inserts_new_members_and_reports_each_item() {
+        memberRepository.save(new Member("existing@example.com", "Existing", MemberStatus.ACTIVE));
+        Map<String, Object> body = Map.of("members", List.of(
+                Map.of("email", "batch1@example.com", "name", "batch1"),
+                Map.of("email", "existing@example.com", "name", "renamed"),
+                Map.of("email", "batch1@example.com", "name", "again")
+        ));
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/v1/members/sync/batch",
+                HttpMethod.POST,
+                new HttpEntity<>(body, authHeader(token("identity-service", "SERVICE"))),
+                Map.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("created", 1).containsEntry("existing", 1)
+                .containsEntry("duplicate", 1);
+        List<Map<String, Object>> results = (List<Map<String, Object>>) response.getBody().get("results");
+        assertThat(results).extracting(item -> item.get("outcome"))
+                .containsExactly("CREATED", "EXISTING", "DUPLICATE");
+        assertThat(memberRepository.findByEmail("batch1@example.com")).get()
+                .extracting(Member::getName).isEqualTo("batch1");
+        assertThat(memberRepository.findByEmail("existing@example.com")).get()
+                .extracting(Member::getName).isEqualTo("Existing");
+    }
+
     @Test
     void admin_can_update_member_status() {
         Member member = memberRepository.save(new Member("status@example.com", "Status", MemberStatus.ACTIVE));
@@ -160,9 +190,13 @@ class MemberControllerIntegrationTest {
     }
 
     private String adminToken() {
+        return token("admin@example.com", "ADMIN");
+    }
+
+    private String token(String subject, String role) {
         return Jwts.builder()
-                .setSubject("admin@example.com")
-                .claim("role", "ADMIN")
+                .setSubject(subject)
+                .claim("role", role)
                 .signWith(Keys.hmacShaKeyFor(TEST_SECRET.getBytes()), SignatureAlgorithm.HS256)
                 .compact();
     }